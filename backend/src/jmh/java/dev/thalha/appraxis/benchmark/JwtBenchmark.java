@@ -0,0 +1,71 @@
+package dev.thalha.appraxis.benchmark;
+
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and the per-request verification path, with and without the verified-token cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "ThisIsASecretKeyForJWTSigningThatMustBeLongEnoughToMeetTheRequirement";
+
+    private JwtUtils jwtUtils;
+    private JwtParser uncachedParser;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtils, "init");
+
+        uncachedParser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build();
+        user = User.builder()
+                .id(42L)
+                .username("john.doe")
+                .roles(Set.of(Role.EMPLOYEE, Role.PROJECT_MANAGER))
+                .build();
+        token = jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateCached() {
+        return jwtUtils.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public User claimsToPrincipalCached() {
+        return jwtUtils.toPrincipal(jwtUtils.extractAllClaims(token));
+    }
+
+    // Full signature check on every call, i.e. a cache miss
+    @Benchmark
+    public Claims parseUncached() {
+        return uncachedParser.parseClaimsJws(token).getBody();
+    }
+}
@@ -0,0 +1,141 @@
+package dev.thalha.appraxis.benchmark;
+
+import dev.thalha.appraxis.AppraxisApplication;
+import dev.thalha.appraxis.dto.FeedbackViewDto;
+import dev.thalha.appraxis.dto.PmRatingDto;
+import dev.thalha.appraxis.dto.RatingSubmissionDto;
+import dev.thalha.appraxis.dto.ReportDto;
+import dev.thalha.appraxis.model.*;
+import dev.thalha.appraxis.repository.PmRatingRepository;
+import dev.thalha.appraxis.repository.PmReviewRepository;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.service.AppraisalService;
+import dev.thalha.appraxis.service.EmployeeService;
+import dev.thalha.appraxis.service.FeedbackAssembler;
+import dev.thalha.appraxis.service.PmReviewService;
+import dev.thalha.appraxis.service.ReportSnapshotService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Report and feedback reads for one cycle against the embedded database, as the number of
+ * PM reviews on the cycle grows. Each review rates every question of a 50-question form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportBenchmark {
+
+    private static final int QUESTIONS = 50;
+
+    @Param({"1", "10", "100"})
+    public int reviewsPerCycle;
+
+    private ConfigurableApplicationContext context;
+    private ReportSnapshotService reportSnapshotService;
+    private PmRatingRepository pmRatingRepository;
+    private FeedbackAssembler feedbackAssembler;
+    private Long cycleId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppraxisApplication.class)
+                .profiles("embedded")
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties("logging.level.root=WARN")
+                .run();
+        reportSnapshotService = context.getBean(ReportSnapshotService.class);
+        pmRatingRepository = context.getBean(PmRatingRepository.class);
+        feedbackAssembler = context.getBean(FeedbackAssembler.class);
+        seed();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ReportDto> reportFromSnapshot() {
+        // Bypasses CycleViewCache, which would otherwise answer every invocation after the first
+        return reportSnapshotService.getSnapshot(cycleId).getQuestions();
+    }
+
+    @Benchmark
+    public List<ReportDto> reportAggregateQuery() {
+        return pmRatingRepository.aggregateReport(cycleId, ReviewStatus.SUBMITTED);
+    }
+
+    @Benchmark
+    public List<FeedbackViewDto> feedbackForCycle() {
+        return feedbackAssembler.forCycle(cycleId);
+    }
+
+    private void seed() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        QuestionRepository questionRepository = context.getBean(QuestionRepository.class);
+        PmReviewRepository pmReviewRepository = context.getBean(PmReviewRepository.class);
+        AppraisalService appraisalService = context.getBean(AppraisalService.class);
+        PmReviewService pmReviewService = context.getBean(PmReviewService.class);
+        EmployeeService employeeService = context.getBean(EmployeeService.class);
+        Random random = new Random(42);
+
+        for (long i = questionRepository.count(); i < QUESTIONS; i++) {
+            questionRepository.save(new Question("Synthetic question " + i, "Category " + (i % 5)));
+        }
+        List<Question> questions = questionRepository.findByActiveTrue();
+
+        User employee = userRepository.findByUsername("john.doe").orElseThrow();
+        User hr = userRepository.findByUsername("lisa.johnson").orElseThrow();
+        AppraisalCycle cycle = appraisalService.initiateAppraisal(employee.getId(), "2026", hr);
+        cycleId = cycle.getId();
+
+        List<RatingSubmissionDto> self = new ArrayList<>();
+        for (Question question : questions) {
+            RatingSubmissionDto dto = new RatingSubmissionDto();
+            dto.setQuestionId(question.getId());
+            dto.setRating(1 + random.nextInt(10));
+            dto.setComment("Self comment");
+            self.add(dto);
+        }
+        employeeService.submitSelfAssessment(cycleId, self, employee);
+
+        for (int r = 0; r < reviewsPerCycle; r++) {
+            User pm = userRepository.save(User.builder()
+                    .username("bench.pm" + r)
+                    .password("unused")
+                    .name("Bench PM " + r)
+                    .email("bench.pm" + r + "@company.com")
+                    .roles(Set.of(Role.PROJECT_MANAGER))
+                    .build());
+            PmReview review = new PmReview();
+            review.setAppraisalCycle(cycle);
+            review.setReviewer(pm);
+            review.setStatus(ReviewStatus.PENDING);
+            review = pmReviewRepository.save(review);
+
+            List<PmRatingDto> ratings = new ArrayList<>();
+            for (Question question : questions) {
+                PmRatingDto dto = new PmRatingDto();
+                dto.setQuestionId(question.getId());
+                dto.setRating(1 + random.nextInt(10));
+                dto.setComment("PM comment");
+                ratings.add(dto);
+            }
+            pmReviewService.submitReview(review.getId(), ratings);
+        }
+    }
+}
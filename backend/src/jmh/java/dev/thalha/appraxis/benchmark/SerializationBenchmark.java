@@ -0,0 +1,74 @@
+package dev.thalha.appraxis.benchmark;
+
+import dev.thalha.appraxis.dto.BossSummaryDto;
+import dev.thalha.appraxis.dto.CategoryRollupDto;
+import dev.thalha.appraxis.dto.FeedbackViewDto;
+import dev.thalha.appraxis.dto.ReportDto;
+import dev.thalha.appraxis.dto.ReviewerBaselineDto;
+import dev.thalha.appraxis.model.AppraisalCycle;
+import dev.thalha.appraxis.model.AppraisalStatus;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of the largest payloads the API returns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"5", "50"})
+    public int questions;
+
+    private JsonMapper jsonMapper;
+    private AppraisalCycle cycle;
+    private BossSummaryDto summary;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        User employee = User.builder().id(1L).username("john.doe").password("{bcrypt}hash").name("John Doe")
+                .email("john.doe@company.com").designation("Software Engineer").roles(Set.of(Role.EMPLOYEE)).build();
+        User hr = User.builder().id(2L).username("lisa.johnson").password("{bcrypt}hash").name("Lisa Johnson")
+                .email("lisa.johnson@company.com").designation("HR Manager").roles(Set.of(Role.EMPLOYEE, Role.HR)).build();
+        cycle = new AppraisalCycle(employee, hr, LocalDate.of(2026, 1, 5), AppraisalStatus.PENDING_BOSS_REVIEW, "2026");
+        cycle.setId(1L);
+
+        List<ReportDto> reports = new ArrayList<>();
+        List<FeedbackViewDto> feedback = new ArrayList<>();
+        for (int i = 0; i < questions; i++) {
+            String text = "Question " + i + ": how consistently does this person deliver on commitments?";
+            reports.add(new ReportDto(text, "Category " + (i % 5), 6.5, 7, 3L, 0.25));
+            feedback.add(new FeedbackViewDto((long) i, text, "Jane Smith", 7, "Solid quarter with room to grow.", i % 3 == 0 ? "Thanks" : null));
+        }
+        List<CategoryRollupDto> categories = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            categories.add(new CategoryRollupDto("Category " + i, 6.5, 7.0, 3L * questions / 5, questions / 5));
+        }
+        summary = new BossSummaryDto(1L, "John Doe", "Software Engineer", "PENDING_BOSS_REVIEW", reports, categories, feedback,
+                List.of(new ReviewerBaselineDto(3L, 120L, 6.2, 1.4)));
+    }
+
+    @Benchmark
+    public String appraisalCycle() {
+        return jsonMapper.writeValueAsString(cycle);
+    }
+
+    @Benchmark
+    public String bossSummary() {
+        return jsonMapper.writeValueAsString(summary);
+    }
+}
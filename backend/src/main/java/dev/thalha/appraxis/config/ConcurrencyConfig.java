@@ -0,0 +1,65 @@
+package dev.thalha.appraxis.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableScheduling
+public class ConcurrencyConfig {
+
+    /**
+     * Executor for fanning independent queries out within one request. Each task borrows its
+     * own connection, so the pool is kept below the connection pool size. When the queue is
+     * full the request thread runs the task itself rather than failing the request.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fanOutExecutor(@Value("${appraxis.fan-out.concurrency-limit}") int concurrencyLimit,
+                                                 @Value("${appraxis.fan-out.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setCorePoolSize(concurrencyLimit);
+        executor.setMaxPoolSize(concurrencyLimit);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Executor that writes buffered dashboard events to their SSE connections, so a slow
+     * client never holds up the transaction that produced the event. A connection has at most
+     * one drain queued at a time, so the queue bounds how many connections can be waiting;
+     * beyond it, connections are closed and their dashboards refetch on reconnect.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dashboardEventExecutor(@Value("${appraxis.events.threads}") int threads,
+                                                         @Value("${appraxis.events.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-events-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
+    }
+
+    /**
+     * Executor that verifies login passwords. Hashing is CPU-bound, so a fixed number of platform
+     * threads (by default half the cores) bounds how much of the machine a login storm can take;
+     * logins beyond the queue are rejected rather than queued without limit.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor loginExecutor(@Value("${appraxis.login.threads}") int threads,
+                                                @Value("${appraxis.login.queue-capacity}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("login-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
+    }
+}
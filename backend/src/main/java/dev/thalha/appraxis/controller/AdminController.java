@@ -0,0 +1,35 @@
+package dev.thalha.appraxis.controller;
+
+import dev.thalha.appraxis.dto.CacheStatsDto;
+import dev.thalha.appraxis.service.CacheStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final CacheStatsService cacheStatsService;
+
+    public AdminController(CacheStatsService cacheStatsService) {
+        this.cacheStatsService = cacheStatsService;
+    }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<CacheStatsDto> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getStats());
+    }
+
+    @DeleteMapping("/cache-stats")
+    public ResponseEntity<Void> resetCacheStats() {
+        cacheStatsService.resetStats();
+        return ResponseEntity.noContent().build();
+    }
+
+    // For questions or users edited directly in the database
+    @PostMapping("/cache/evict")
+    public ResponseEntity<Void> evictCaches() {
+        cacheStatsService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,22 @@
+package dev.thalha.appraxis.controller;
+
+import dev.thalha.appraxis.dto.RatingAnalyticsDto;
+import dev.thalha.appraxis.service.AnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/ratings")
+    public ResponseEntity<RatingAnalyticsDto> getRatingDistribution(@RequestParam String year) {
+        return ResponseEntity.ok(analyticsService.getRatingDistribution(year));
+    }
+}
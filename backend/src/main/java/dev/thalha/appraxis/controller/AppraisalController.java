@@ -1,8 +1,17 @@
 package dev.thalha.appraxis.controller;
 
+import dev.thalha.appraxis.dto.AppraisalSummaryDto;
+import dev.thalha.appraxis.dto.BulkInitiationRequestDto;
+import dev.thalha.appraxis.dto.BulkInitiationResultDto;
+import dev.thalha.appraxis.dto.BulkPmAssignmentRequestDto;
+import dev.thalha.appraxis.dto.BulkPmAssignmentResultDto;
+import dev.thalha.appraxis.dto.CursorPageDto;
+import dev.thalha.appraxis.dto.StatusCountDto;
 import dev.thalha.appraxis.model.AppraisalCycle;
+import dev.thalha.appraxis.model.AppraisalStatus;
 import dev.thalha.appraxis.model.User;
 import dev.thalha.appraxis.service.AppraisalService;
+import dev.thalha.appraxis.service.IdempotencyService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -15,8 +24,11 @@ import java.util.Map;
 public class AppraisalController {
 
     private final AppraisalService appraisalService;
-    public AppraisalController(AppraisalService appraisalService) {
+    private final IdempotencyService idempotencyService;
+
+    public AppraisalController(AppraisalService appraisalService, IdempotencyService idempotencyService) {
         this.appraisalService = appraisalService;
+        this.idempotencyService = idempotencyService;
     }
 
     @GetMapping("/users/employees")
@@ -25,8 +37,16 @@ public class AppraisalController {
     }
 
     @GetMapping("/appraisals")
-    public ResponseEntity<List<AppraisalCycle>> getAllAppraisals() {
-        return ResponseEntity.ok(appraisalService.getAllAppraisals());
+    public ResponseEntity<CursorPageDto<AppraisalSummaryDto>> getAllAppraisals(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) List<AppraisalStatus> status) {
+        return ResponseEntity.ok(appraisalService.getAllAppraisals(cursor, size, status));
+    }
+
+    @GetMapping("/appraisals/status-counts")
+    public ResponseEntity<List<StatusCountDto>> getStatusCounts() {
+        return ResponseEntity.ok(appraisalService.getStatusCounts());
     }
 
     @PostMapping("/appraisals")
@@ -40,15 +60,32 @@ public class AppraisalController {
         
         return ResponseEntity.ok(appraisalService.initiateAppraisal(employeeId, year, initiator));
     }
+
+    @PostMapping("/appraisals/bulk")
+    public ResponseEntity<BulkInitiationResultDto> initiateAppraisals(@RequestBody BulkInitiationRequestDto request, @AuthenticationPrincipal User initiator) {
+        return ResponseEntity.ok(appraisalService.initiateAppraisals(request, initiator));
+    }
+
+    @PostMapping("/appraisals/assign-pm/bulk")
+    public ResponseEntity<BulkPmAssignmentResultDto> assignPms(@RequestBody BulkPmAssignmentRequestDto request,
+                                                               @AuthenticationPrincipal User assigner,
+                                                               @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.ok(idempotencyService.submit(assigner.getId(), idempotencyKey, "assign-pm-bulk", request,
+                BulkPmAssignmentResultDto.class, () -> appraisalService.assignPms(request)));
+    }
+
     @GetMapping("/users/pms")
     public ResponseEntity<List<User>> getPms() {
         return ResponseEntity.ok(appraisalService.getAllPms());
     }
 
     @PostMapping("/appraisals/{cycleId}/assign-pm")
-    public ResponseEntity<Void> assignPm(@PathVariable Long cycleId, @RequestBody Map<String, Long> payload) {
+    public ResponseEntity<Void> assignPm(@PathVariable Long cycleId, @RequestBody Map<String, Long> payload,
+                                         @AuthenticationPrincipal User assigner,
+                                         @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         Long pmId = payload.get("pmId");
-        appraisalService.assignPm(cycleId, pmId);
+        idempotencyService.submit(assigner.getId(), idempotencyKey, "assign-pm", List.of(cycleId, payload),
+                () -> appraisalService.assignPm(cycleId, pmId));
         return ResponseEntity.ok().build();
     }
 }
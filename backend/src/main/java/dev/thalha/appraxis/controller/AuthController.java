@@ -3,13 +3,13 @@ package dev.thalha.appraxis.controller;
 import dev.thalha.appraxis.dto.AuthRequest;
 import dev.thalha.appraxis.dto.AuthResponse;
 
-import dev.thalha.appraxis.repository.UserRepository;
 import dev.thalha.appraxis.security.JwtUtils;
+import dev.thalha.appraxis.service.LoginService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,20 +20,21 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
-    private final UserRepository userRepository;
+    private final LoginService loginService;
     private final JwtUtils jwtUtils;
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@RequestBody AuthRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUsername(),
-                        request.getPassword()
-                )
-        );
-        var user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        dev.thalha.appraxis.model.User user;
+        try {
+            user = loginService.authenticate(request.getUsername(), request.getPassword());
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginService.getRetryAfter().toSeconds()))
+                    .body(AuthResponse.builder()
+                            .message("Too many logins in progress, please retry shortly")
+                            .build());
+        }
         var jwtToken = jwtUtils.generateToken(user);
         return ResponseEntity.ok(AuthResponse.builder()
                 .token(jwtToken)
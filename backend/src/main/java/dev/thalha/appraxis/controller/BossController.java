@@ -1,11 +1,20 @@
 package dev.thalha.appraxis.controller;
 
 import dev.thalha.appraxis.dto.BossSummaryDto;
+import dev.thalha.appraxis.dto.CursorPageDto;
 import dev.thalha.appraxis.dto.FinalizeAppraisalDto;
-import dev.thalha.appraxis.model.AppraisalCycle;
+import dev.thalha.appraxis.dto.PendingReviewDto;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
 import dev.thalha.appraxis.service.BossService;
+import dev.thalha.appraxis.service.DashboardEventService;
+import dev.thalha.appraxis.service.IdempotencyService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -14,24 +23,43 @@ import java.util.List;
 public class BossController {
 
     private final BossService bossService;
+    private final DashboardEventService dashboardEventService;
+    private final IdempotencyService idempotencyService;
 
-    public BossController(BossService bossService) {
+    public BossController(BossService bossService, DashboardEventService dashboardEventService,
+                          IdempotencyService idempotencyService) {
         this.bossService = bossService;
+        this.dashboardEventService = dashboardEventService;
+        this.idempotencyService = idempotencyService;
     }
 
     @GetMapping("/pending")
-    public ResponseEntity<List<AppraisalCycle>> getPendingReviews() {
-        return ResponseEntity.ok(bossService.getPendingReviews());
+    public ResponseEntity<CursorPageDto<PendingReviewDto>> getPendingReviews(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String year,
+            @RequestParam(required = false) String designation,
+            @RequestParam(required = false) Long pmId) {
+        return ResponseEntity.ok(bossService.getPendingReviews(cursor, size, year, designation, pmId));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getEvents(@AuthenticationPrincipal User boss) {
+        return dashboardEventService.subscribe(Role.BOSS, boss.getId());
     }
 
     @GetMapping("/summary/{cycleId}")
-    public ResponseEntity<BossSummaryDto> getSummary(@PathVariable Long cycleId) {
-        return ResponseEntity.ok(bossService.getSummary(cycleId));
+    public ResponseEntity<BossSummaryDto> getSummary(@PathVariable Long cycleId, WebRequest request) {
+        return CycleResponses.conditional(request, bossService.getCycleVersion(cycleId),
+                () -> bossService.getSummary(cycleId));
     }
 
     @PostMapping("/close/{cycleId}")
-    public ResponseEntity<Void> finalizeAppraisal(@PathVariable Long cycleId, @RequestBody FinalizeAppraisalDto request) {
-        bossService.finalizeAppraisal(cycleId, request.getBossComment());
+    public ResponseEntity<Void> finalizeAppraisal(@PathVariable Long cycleId, @RequestBody FinalizeAppraisalDto request,
+                                                  @AuthenticationPrincipal User boss,
+                                                  @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        idempotencyService.submit(boss.getId(), idempotencyKey, "close", List.of(cycleId, request),
+                () -> bossService.finalizeAppraisal(cycleId, request.getBossComment()));
         return ResponseEntity.ok().build();
     }
 }
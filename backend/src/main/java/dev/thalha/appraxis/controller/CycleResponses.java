@@ -0,0 +1,36 @@
+package dev.thalha.appraxis.controller;
+
+import dev.thalha.appraxis.dto.CycleVersionDto;
+import dev.thalha.appraxis.model.AppraisalStatus;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Conditional responses for views derived from a single appraisal cycle. The ETag is the
+ * cycle's version, so a matching If-None-Match is answered with 304 before the view is
+ * built. Closed cycles never change again and may be cached for a year; the rest must be
+ * revalidated on every use.
+ */
+final class CycleResponses {
+
+    private static final CacheControl CLOSED = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+    private static final CacheControl OPEN = CacheControl.noCache().cachePrivate();
+
+    private CycleResponses() {
+    }
+
+    static <T> ResponseEntity<T> conditional(WebRequest request, CycleVersionDto cycle, Supplier<T> body) {
+        String eTag = "\"cycle-" + cycle.getId() + "-v" + cycle.getVersion() + "\"";
+        CacheControl cacheControl = cycle.getStatus() == AppraisalStatus.CLOSED ? CLOSED : OPEN;
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(body.get());
+    }
+}
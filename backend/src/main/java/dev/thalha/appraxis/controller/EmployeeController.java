@@ -1,15 +1,23 @@
 package dev.thalha.appraxis.controller;
 
+import dev.thalha.appraxis.dto.AppraisalSummaryDto;
 import dev.thalha.appraxis.dto.ClarificationRequestDto;
+import dev.thalha.appraxis.dto.CursorPageDto;
 import dev.thalha.appraxis.dto.FeedbackViewDto;
 import dev.thalha.appraxis.dto.RatingSubmissionDto;
 import dev.thalha.appraxis.dto.ReportDto;
 import dev.thalha.appraxis.model.AppraisalCycle;
+import dev.thalha.appraxis.model.Role;
 import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.service.DashboardEventService;
 import dev.thalha.appraxis.service.EmployeeService;
+import dev.thalha.appraxis.service.IdempotencyService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,9 +26,14 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final DashboardEventService dashboardEventService;
+    private final IdempotencyService idempotencyService;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, DashboardEventService dashboardEventService,
+                              IdempotencyService idempotencyService) {
         this.employeeService = employeeService;
+        this.dashboardEventService = dashboardEventService;
+        this.idempotencyService = idempotencyService;
     }
 
     @GetMapping("/active-cycle")
@@ -28,30 +41,44 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.getActiveCycle(employee));
     }
 
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getEvents(@AuthenticationPrincipal User employee) {
+        return dashboardEventService.subscribe(Role.EMPLOYEE, employee.getId());
+    }
+
     @GetMapping("/cycles")
-    public ResponseEntity<List<AppraisalCycle>> getAllCycles(@AuthenticationPrincipal User employee) {
-        return ResponseEntity.ok(employeeService.getAllCycles(employee));
+    public ResponseEntity<CursorPageDto<AppraisalSummaryDto>> getAllCycles(
+            @AuthenticationPrincipal User employee,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(employeeService.getAllCycles(employee, cursor, size));
     }
 
     @GetMapping("/report/{cycleId}")
-    public ResponseEntity<List<ReportDto>> getReport(@PathVariable Long cycleId) {
-        return ResponseEntity.ok(employeeService.getReport(cycleId));
+    public ResponseEntity<List<ReportDto>> getReport(@PathVariable Long cycleId, WebRequest request) {
+        return CycleResponses.conditional(request, employeeService.getCycleVersion(cycleId),
+                () -> employeeService.getReport(cycleId));
     }
     
     @GetMapping("/feedback/{cycleId}")
-    public ResponseEntity<List<FeedbackViewDto>> getFeedback(@PathVariable Long cycleId) {
-        return ResponseEntity.ok(employeeService.getFeedback(cycleId));
+    public ResponseEntity<List<FeedbackViewDto>> getFeedback(@PathVariable Long cycleId, WebRequest request) {
+        return CycleResponses.conditional(request, employeeService.getCycleVersion(cycleId),
+                () -> employeeService.getFeedback(cycleId));
     }
 
     @PostMapping("/self-assessment/{cycleId}")
-    public ResponseEntity<Void> submitSelfAssessment(@PathVariable Long cycleId, @RequestBody List<RatingSubmissionDto> submissions, @AuthenticationPrincipal User employee) {
-        employeeService.submitSelfAssessment(cycleId, submissions, employee);
+    public ResponseEntity<Void> submitSelfAssessment(@PathVariable Long cycleId, @RequestBody List<RatingSubmissionDto> submissions, @AuthenticationPrincipal User employee,
+                                                     @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        idempotencyService.submit(employee.getId(), idempotencyKey, "self-assessment", List.of(cycleId, submissions),
+                () -> employeeService.submitSelfAssessment(cycleId, submissions, employee));
         return ResponseEntity.ok().build();
     }
     
     @PostMapping("/clarify")
-    public ResponseEntity<Void> submitClarification(@RequestBody ClarificationRequestDto request) {
-        employeeService.submitClarification(request);
+    public ResponseEntity<Void> submitClarification(@RequestBody ClarificationRequestDto request, @AuthenticationPrincipal User employee,
+                                                    @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        idempotencyService.submit(employee.getId(), idempotencyKey, "clarification", request,
+                () -> employeeService.submitClarification(request));
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,46 @@
+package dev.thalha.appraxis.controller;
+
+import dev.thalha.appraxis.service.AppraisalExportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private final AppraisalExportService appraisalExportService;
+
+    public ExportController(AppraisalExportService appraisalExportService) {
+        this.appraisalExportService = appraisalExportService;
+    }
+
+    @GetMapping("/appraisals")
+    public ResponseEntity<StreamingResponseBody> exportAppraisals(@RequestParam String year,
+                                                                  @RequestParam(defaultValue = "csv") String format) {
+        // Also ends up in the file name header
+        if (!year.matches("\\d{4}")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid year: " + year);
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"appraisals-" + year + ".ndjson\"")
+                    .body(out -> appraisalExportService.writeNdjson(year, out));
+        }
+        if (!"csv".equalsIgnoreCase(format)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"appraisals-" + year + ".csv\"")
+                .body(out -> appraisalExportService.writeCsv(year, out));
+    }
+}
@@ -1,14 +1,21 @@
 package dev.thalha.appraxis.controller;
 
+import dev.thalha.appraxis.dto.CursorPageDto;
 import dev.thalha.appraxis.dto.FeedbackViewDto;
 import dev.thalha.appraxis.dto.PmRatingDto;
+import dev.thalha.appraxis.dto.PmReviewSummaryDto;
 import dev.thalha.appraxis.model.PmReview;
 import dev.thalha.appraxis.model.Question;
+import dev.thalha.appraxis.model.Role;
 import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.service.DashboardEventService;
+import dev.thalha.appraxis.service.IdempotencyService;
 import dev.thalha.appraxis.service.PmReviewService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,9 +24,14 @@ import java.util.List;
 public class PmController {
 
     private final PmReviewService pmReviewService;
+    private final DashboardEventService dashboardEventService;
+    private final IdempotencyService idempotencyService;
 
-    public PmController(PmReviewService pmReviewService) {
+    public PmController(PmReviewService pmReviewService, DashboardEventService dashboardEventService,
+                        IdempotencyService idempotencyService) {
         this.pmReviewService = pmReviewService;
+        this.dashboardEventService = dashboardEventService;
+        this.idempotencyService = idempotencyService;
     }
 
     @GetMapping("/pm/pending-reviews")
@@ -27,9 +39,17 @@ public class PmController {
         return ResponseEntity.ok(pmReviewService.getPendingReviews(reviewer));
     }
 
+    @GetMapping(value = "/pm/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getEvents(@AuthenticationPrincipal User reviewer) {
+        return dashboardEventService.subscribe(Role.PROJECT_MANAGER, reviewer.getId());
+    }
+
     @GetMapping("/pm/submitted-reviews")
-    public ResponseEntity<List<PmReview>> getSubmittedReviews(@AuthenticationPrincipal User reviewer) {
-        return ResponseEntity.ok(pmReviewService.getSubmittedReviews(reviewer));
+    public ResponseEntity<CursorPageDto<PmReviewSummaryDto>> getSubmittedReviews(
+            @AuthenticationPrincipal User reviewer,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(pmReviewService.getSubmittedReviews(reviewer, cursor, size));
     }
 
     @GetMapping("/pm/reviews/{reviewId}/clarifications")
@@ -43,8 +63,11 @@ public class PmController {
     }
 
     @PostMapping("/pm/reviews/{reviewId}/submit")
-    public ResponseEntity<Void> submitReview(@PathVariable Long reviewId, @RequestBody List<PmRatingDto> ratings) {
-        pmReviewService.submitReview(reviewId, ratings);
+    public ResponseEntity<Void> submitReview(@PathVariable Long reviewId, @RequestBody List<PmRatingDto> ratings,
+                                             @AuthenticationPrincipal User reviewer,
+                                             @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        idempotencyService.submit(reviewer.getId(), idempotencyKey, "pm-review", List.of(reviewId, ratings),
+                () -> pmReviewService.submitReview(reviewId, ratings));
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,38 @@
+package dev.thalha.appraxis.controller;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Answers writes that lost a race with 409 Conflict. Submissions are checked optimistically:
+ * a concurrent change to the same cycle or review fails the version check at commit, and a
+ * duplicate that slipped past the status checks fails a unique constraint.
+ *
+ * Status exceptions (such as a reused Idempotency-Key) are rendered here as well, rather than
+ * through an error dispatch.
+ */
+@RestControllerAdvice
+class SubmissionErrorAdvice {
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    ProblemDetail concurrentUpdate(OptimisticLockingFailureException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "The appraisal was changed by another request. Reload it and try again.");
+    }
+
+    @ExceptionHandler(DuplicateKeyException.class)
+    ProblemDetail duplicateSubmission(DuplicateKeyException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "This submission has already been recorded.");
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    ResponseEntity<ProblemDetail> rejected(ResponseStatusException e) {
+        return ResponseEntity.status(e.getStatusCode()).headers(e.getHeaders()).body(e.getBody());
+    }
+}
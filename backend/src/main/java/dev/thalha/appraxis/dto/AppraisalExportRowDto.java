@@ -0,0 +1,27 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One exported line: a question of a cycle, with one PM's rating when the cycle has several reviewers
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AppraisalExportRowDto {
+    private Long cycleId;
+    private String year;
+    private Long employeeId;
+    private String employeeName;
+    private String designation;
+    private String status;
+    private Long questionId;
+    private String category;
+    private String questionText;
+    private Integer selfRating;
+    private String selfComment;
+    private String pmName;
+    private Integer pmRating;
+    private String pmComment;
+    private String bossComment;
+}
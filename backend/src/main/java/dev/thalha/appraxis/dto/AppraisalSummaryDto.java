@@ -0,0 +1,23 @@
+package dev.thalha.appraxis.dto;
+
+import dev.thalha.appraxis.model.AppraisalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AppraisalSummaryDto {
+    private Long id;
+    private Long employeeId;
+    private String employeeName;
+    private String designation;
+    private String year;
+    private LocalDate startDate;
+    private AppraisalStatus status;
+    private boolean selfAssessmentSubmitted;
+    private String bossComment;
+}
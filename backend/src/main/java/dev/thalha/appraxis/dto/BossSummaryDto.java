@@ -15,5 +15,7 @@ public class BossSummaryDto {
     private String designation;
     private String status;
     private List<ReportDto> reports;
+    private List<CategoryRollupDto> categories;
     private List<FeedbackViewDto> clarifications;
+    private List<ReviewerBaselineDto> reviewerBaselines;
 }
@@ -0,0 +1,17 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkInitiationRequestDto {
+    private String year;
+    // Both optional; with neither set every eligible employee is included
+    private List<Long> employeeIds;
+    private String designation;
+}
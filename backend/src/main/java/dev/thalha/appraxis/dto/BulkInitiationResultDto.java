@@ -0,0 +1,18 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkInitiationResultDto {
+    private String year;
+    private int created;
+    private int alreadyInitiated;
+    // Requested ids that are missing or not employees
+    private List<Long> ineligibleIds;
+}
@@ -0,0 +1,19 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkPmAssignmentRequestDto {
+    // Explicit (cycle, PM) pairs; when absent the team rule below is used
+    private List<PmAssignmentDto> assignments;
+    // Team rule: every OPEN cycle of the year, optionally of one designation, goes to this PM
+    private Long pmId;
+    private String year;
+    private String designation;
+}
@@ -0,0 +1,16 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkPmAssignmentResultDto {
+    private int assigned;
+    private int rejected;
+    private List<PmAssignmentResultDto> results;
+}
@@ -0,0 +1,16 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategoryRollupDto {
+    private String category;
+    private Double pmAverageRating;
+    private Double selfAverageRating; // null if no self ratings in this category
+    private Long pmRatingCount;
+    private Integer questionCount;
+}
@@ -0,0 +1,31 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private List<T> items;
+    private Long nextCursor; // pass back as "cursor" to fetch the next page, null on the last page
+    private Long totalCount; // null when the endpoint does not count
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // Builds a page from a keyset query that was asked for pageSize + 1 rows
+    public static <T> CursorPageDto<T> fromRows(List<T> rows, int pageSize, Function<T, Long> cursorOf, Long totalCount) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageDto<>(items, nextCursor, totalCount);
+    }
+}
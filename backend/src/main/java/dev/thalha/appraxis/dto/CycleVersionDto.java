@@ -0,0 +1,15 @@
+package dev.thalha.appraxis.dto;
+
+import dev.thalha.appraxis.model.AppraisalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CycleVersionDto {
+    private Long id;
+    private AppraisalStatus status;
+    private Long version;
+}
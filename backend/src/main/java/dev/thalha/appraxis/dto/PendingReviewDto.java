@@ -0,0 +1,23 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PendingReviewDto {
+    private Long cycleId;
+    private String employeeName;
+    private String designation;
+    private String year;
+    private LocalDateTime pendingSince; // null for cycles that predate status tracking
+
+    public Long getDaysInStatus() {
+        return pendingSince != null ? Duration.between(pendingSince, LocalDateTime.now()).toDays() : null;
+    }
+}
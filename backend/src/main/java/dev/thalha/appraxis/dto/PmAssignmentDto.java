@@ -0,0 +1,13 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PmAssignmentDto {
+    private Long cycleId;
+    private Long pmId;
+}
@@ -0,0 +1,16 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PmAssignmentResultDto {
+    private Long cycleId;
+    private Long pmId;
+    private boolean assigned;
+    // Why the pair was not assigned; null when it was
+    private String reason;
+}
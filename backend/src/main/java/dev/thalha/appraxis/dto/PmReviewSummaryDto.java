@@ -0,0 +1,23 @@
+package dev.thalha.appraxis.dto;
+
+import dev.thalha.appraxis.model.AppraisalStatus;
+import dev.thalha.appraxis.model.ReviewStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PmReviewSummaryDto {
+    private Long id;
+    private Long cycleId;
+    private String employeeName;
+    private String designation;
+    private String year;
+    private AppraisalStatus cycleStatus;
+    private ReviewStatus status;
+    private LocalDateTime feedbackDate;
+}
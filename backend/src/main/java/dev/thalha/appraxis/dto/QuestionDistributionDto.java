@@ -0,0 +1,16 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuestionDistributionDto {
+    private Long questionId;
+    private String questionText;
+    private String category;
+    private RatingStatsDto pm;
+    private RatingStatsDto self;
+}
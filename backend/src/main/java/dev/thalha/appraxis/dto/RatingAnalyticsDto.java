@@ -0,0 +1,16 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingAnalyticsDto {
+    private String year;
+    private List<QuestionDistributionDto> questions;
+    private List<CategoryDistributionDto> categories;
+}
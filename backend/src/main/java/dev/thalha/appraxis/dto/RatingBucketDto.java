@@ -0,0 +1,14 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingBucketDto {
+    private Long questionId;
+    private Integer rating;
+    private Long count;
+}
@@ -0,0 +1,16 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingStatsDto {
+    // Index 0 holds the number of 1 ratings, index 9 the number of 10 ratings
+    private long[] histogram;
+    private Double mean; // null when there are no ratings
+    private Double stddev;
+    private long count;
+}
@@ -12,4 +12,8 @@ public class ReportDto {
     private String category;
     private Double pmAverageRating;
     private Integer selfRating;
+    private Long pmRatingCount;
+    // Mean of each PM rating's z-score against that PM's rating history as of report generation
+    // (see ReportSnapshotDto.reviewerBaselines); null without enough history. Not recomputed later.
+    private Double pmCalibratedScore;
 }
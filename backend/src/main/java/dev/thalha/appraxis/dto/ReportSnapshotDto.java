@@ -0,0 +1,17 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReportSnapshotDto {
+    private List<ReportDto> questions;
+    private List<CategoryRollupDto> categories;
+    // Reviewer stats the calibrated scores were computed against, fixed with the snapshot
+    private List<ReviewerBaselineDto> reviewerBaselines;
+}
@@ -0,0 +1,16 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A reviewer's rating distribution as it stood when a report was generated
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewerBaselineDto {
+    private Long reviewerId;
+    private Long ratingCount;
+    private Double mean;
+    private Double stdDev;
+}
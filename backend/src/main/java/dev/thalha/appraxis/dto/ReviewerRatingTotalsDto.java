@@ -0,0 +1,15 @@
+package dev.thalha.appraxis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewerRatingTotalsDto {
+    private Long reviewerId;
+    private Long count;
+    private Long sum;
+    private Long sumOfSquares;
+}
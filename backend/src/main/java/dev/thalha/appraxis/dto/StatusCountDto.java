@@ -0,0 +1,14 @@
+package dev.thalha.appraxis.dto;
+
+import dev.thalha.appraxis.model.AppraisalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StatusCountDto {
+    private AppraisalStatus status;
+    private Long count;
+}
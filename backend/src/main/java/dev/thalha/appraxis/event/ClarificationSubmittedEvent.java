@@ -0,0 +1,13 @@
+package dev.thalha.appraxis.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published inside the transaction that stores an employee's clarification on a PM rating.
+ */
+@Data
+@AllArgsConstructor
+public class ClarificationSubmittedEvent {
+    private Long cycleId;
+}
@@ -0,0 +1,14 @@
+package dev.thalha.appraxis.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published inside the transaction that closes an appraisal cycle.
+ */
+@Data
+@AllArgsConstructor
+public class CycleClosedEvent {
+    private Long cycleId;
+    private String year;
+}
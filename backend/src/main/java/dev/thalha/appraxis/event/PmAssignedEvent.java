@@ -0,0 +1,14 @@
+package dev.thalha.appraxis.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published inside the transaction that assigns a project manager to an appraisal cycle.
+ */
+@Data
+@AllArgsConstructor
+public class PmAssignedEvent {
+    private Long cycleId;
+    private Long pmId;
+}
@@ -0,0 +1,19 @@
+package dev.thalha.appraxis.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published inside the transaction that stores a self-assessment or a PM review.
+ * Listeners that keep derived data should react after commit.
+ */
+@Data
+@AllArgsConstructor
+public class RatingsSubmittedEvent {
+
+    public enum Source { SELF_ASSESSMENT, PM_REVIEW }
+
+    private Long cycleId;
+    private String year;
+    private Source source;
+}
@@ -2,9 +2,12 @@ package dev.thalha.appraxis.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "appraisal_cycles")
+@Table(name = "appraisal_cycles", indexes = {
+        @Index(name = "idx_appraisal_cycles_status", columnList = "status, id")
+})
 public class AppraisalCycle {
 
     @Id
@@ -26,6 +29,9 @@ public class AppraisalCycle {
     @Column(nullable = false)
     private AppraisalStatus status;
 
+    // When the cycle entered its current status
+    private LocalDateTime statusUpdatedAt;
+
     @Column(nullable = false)
     private String year;
 
@@ -35,6 +41,11 @@ public class AppraisalCycle {
     @Column(columnDefinition = "TEXT")
     private String bossComment;
 
+    // Bumped on every change to the cycle or its ratings and clarifications; the ETag of its report views
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public AppraisalCycle() {
     }
 
@@ -42,7 +53,7 @@ public class AppraisalCycle {
         this.employee = employee;
         this.hrInitiator = hrInitiator;
         this.startDate = startDate;
-        this.status = status;
+        setStatus(status);
         this.year = year;
     }
 
@@ -83,9 +94,20 @@ public class AppraisalCycle {
     }
 
     public void setStatus(AppraisalStatus status) {
+        if (this.status != status) {
+            this.statusUpdatedAt = LocalDateTime.now();
+        }
         this.status = status;
     }
 
+    public LocalDateTime getStatusUpdatedAt() {
+        return statusUpdatedAt;
+    }
+
+    public void setStatusUpdatedAt(LocalDateTime statusUpdatedAt) {
+        this.statusUpdatedAt = statusUpdatedAt;
+    }
+
     public String getYear() {
         return year;
     }
@@ -109,4 +131,8 @@ public class AppraisalCycle {
     public void setBossComment(String bossComment) {
         this.bossComment = bossComment;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,42 @@
+package dev.thalha.appraxis.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key sent with a committed submission. The row is written in the submission's
+ * own transaction, so it exists exactly when the submission does.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "idempotency_keys")
+@IdClass(IdempotencyKey.Pk.class)
+public class IdempotencyKey {
+    @Id
+    private Long userId;
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    // SHA-256 of the operation and its request, to tell a retry from a reused key
+    @Column(nullable = false, length = 64)
+    private String requestDigest;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Serialized result of submissions that return one; null for the others
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    public record Pk(Long userId, String key) implements Serializable {
+    }
+}
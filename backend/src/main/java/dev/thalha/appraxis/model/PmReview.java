@@ -30,4 +30,9 @@ public class PmReview {
     private ReviewStatus status;
 
     private LocalDateTime feedbackDate;
+
+    // Guards the PENDING -> SUBMITTED transition against concurrent submissions of the same review
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,30 @@
+package dev.thalha.appraxis.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "report_snapshots")
+public class ReportSnapshot {
+    // Shares the id of the appraisal cycle it was built from
+    @Id
+    private Long cycleId;
+
+    // Serialized ReportSnapshotDto
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    // Set once the cycle is CLOSED; a frozen snapshot is never rebuilt
+    @Column(nullable = false)
+    private boolean frozen = false;
+
+    @Column(nullable = false)
+    private LocalDateTime generatedAt;
+}
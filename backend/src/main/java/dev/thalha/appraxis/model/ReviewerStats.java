@@ -0,0 +1,35 @@
+package dev.thalha.appraxis.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running distribution of every rating a PM has submitted, kept in Welford form so that
+ * it can be updated per review and read in constant time when calibrating reports.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "reviewer_stats")
+public class ReviewerStats {
+    // Shares the id of the reviewing user
+    @Id
+    private Long reviewerId;
+
+    @Column(nullable = false)
+    private long ratingCount;
+
+    @Column(nullable = false)
+    private double mean;
+
+    // Sum of squared deviations from the mean; population variance is m2 / ratingCount
+    @Column(nullable = false)
+    private double m2;
+
+    private LocalDateTime updatedAt;
+}
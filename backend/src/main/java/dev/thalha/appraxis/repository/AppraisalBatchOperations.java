@@ -0,0 +1,15 @@
+package dev.thalha.appraxis.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Set-based writes that bypass the persistence context so they can go out as JDBC batches.
+ */
+public interface AppraisalBatchOperations {
+
+    int insertOpenCycles(Collection<Long> employeeIds, Long hrInitiatorId, String year, LocalDate startDate);
+
+    // Moves the cycles among the ids that are still OPEN to PENDING_PM_REVIEW, bumping their versions
+    int markPendingPmReview(Collection<Long> cycleIds);
+}
@@ -0,0 +1,69 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.model.AppraisalStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+class AppraisalBatchOperationsImpl implements AppraisalBatchOperations {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    AppraisalBatchOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertOpenCycles(Collection<Long> employeeIds, Long hrInitiatorId, String year, LocalDate startDate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // Ids come from the auto-increment column; with rewriteBatchedStatements each batch is one multi-row INSERT
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO appraisal_cycles
+                            (employee_id, hr_initiator_id, start_date, status, status_updated_at, year, self_assessment_submitted)
+                        VALUES (?, ?, ?, ?, ?, ?, FALSE)
+                        """,
+                employeeIds,
+                BATCH_SIZE,
+                (ps, employeeId) -> {
+                    ps.setLong(1, employeeId);
+                    ps.setLong(2, hrInitiatorId);
+                    ps.setDate(3, Date.valueOf(startDate));
+                    ps.setString(4, AppraisalStatus.OPEN.name());
+                    ps.setTimestamp(5, now);
+                    ps.setString(6, year);
+                });
+
+        // Rewritten batches report SUCCESS_NO_INFO per row, so count the input instead
+        return employeeIds.size();
+    }
+
+    @Override
+    public int markPendingPmReview(Collection<Long> cycleIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = new ArrayList<>(cycleIds);
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            List<Object> args = new ArrayList<>(chunk.size() + 3);
+            args.add(AppraisalStatus.PENDING_PM_REVIEW.name());
+            args.add(now);
+            args.add(AppraisalStatus.OPEN.name());
+            args.addAll(chunk);
+            updated += jdbcTemplate.update("""
+                    UPDATE appraisal_cycles
+                    SET status = ?, status_updated_at = ?, version = version + 1
+                    WHERE status = ? AND id IN (%s)
+                    """.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?"))), args.toArray());
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,14 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.dto.AppraisalExportRowDto;
+
+import java.util.function.Consumer;
+
+/**
+ * Forward-only read of a year's appraisal data. Rows are handed to the consumer as they
+ * arrive from the driver and are never collected, so memory use does not grow with the year.
+ */
+public interface AppraisalExportOperations {
+
+    void streamExportRows(String year, Consumer<AppraisalExportRowDto> consumer);
+}
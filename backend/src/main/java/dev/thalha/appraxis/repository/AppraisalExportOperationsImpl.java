@@ -0,0 +1,71 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.dto.AppraisalExportRowDto;
+import dev.thalha.appraxis.model.ReviewStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+class AppraisalExportOperationsImpl implements AppraisalExportOperations {
+
+    // MySQL's driver buffers the whole result unless the fetch size is Integer.MIN_VALUE, which
+    // streams rows for this statement alone. Other drivers take an ordinary fetch size.
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int FETCH_SIZE = 500;
+
+    private static final String EXPORT_SQL = """
+            SELECT c.id, c.year, e.id, e.name, e.designation, c.status, c.boss_comment,
+                   q.id, q.category, q.text, sa.rating, sa.comment, u.name, r.rating, r.comment
+            FROM appraisal_cycles c
+            JOIN users e ON e.id = c.employee_id
+            CROSS JOIN questions q
+            LEFT JOIN self_assessments sa ON sa.appraisal_cycle_id = c.id AND sa.question_id = q.id
+            LEFT JOIN pm_reviews pr ON pr.appraisal_cycle_id = c.id AND pr.status = ?
+            LEFT JOIN pm_ratings r ON r.pm_review_id = pr.id AND r.question_id = q.id
+            LEFT JOIN users u ON u.id = pr.reviewer_id
+            WHERE c.year = ?
+              AND (sa.id IS NOT NULL OR r.id IS NOT NULL)
+            ORDER BY c.id, q.id, pr.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    AppraisalExportOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void streamExportRows(String year, Consumer<AppraisalExportRowDto> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    boolean mysql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+                    ps.setFetchSize(mysql ? MYSQL_STREAMING_FETCH_SIZE : FETCH_SIZE);
+                    ps.setString(1, ReviewStatus.SUBMITTED.name());
+                    ps.setString(2, year);
+                    return ps;
+                },
+                rs -> {
+                    consumer.accept(new AppraisalExportRowDto(
+                            rs.getLong(1),
+                            rs.getString(2),
+                            rs.getLong(3),
+                            rs.getString(4),
+                            rs.getString(5),
+                            rs.getString(6),
+                            rs.getLong(8),
+                            rs.getString(9),
+                            rs.getString(10),
+                            rs.getObject(11, Integer.class),
+                            rs.getString(12),
+                            rs.getString(13),
+                            rs.getObject(14, Integer.class),
+                            rs.getString(15),
+                            rs.getString(7)
+                    ));
+                });
+    }
+}
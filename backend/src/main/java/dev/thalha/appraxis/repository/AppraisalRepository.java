@@ -1,15 +1,113 @@
 package dev.thalha.appraxis.repository;
 
+import dev.thalha.appraxis.dto.AppraisalSummaryDto;
+import dev.thalha.appraxis.dto.CycleVersionDto;
+import dev.thalha.appraxis.dto.PendingReviewDto;
+import dev.thalha.appraxis.dto.StatusCountDto;
 import dev.thalha.appraxis.model.AppraisalCycle;
+import dev.thalha.appraxis.model.AppraisalStatus;
 import dev.thalha.appraxis.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface AppraisalRepository extends JpaRepository<AppraisalCycle, Long> {
+public interface AppraisalRepository extends JpaRepository<AppraisalCycle, Long>, AppraisalBatchOperations, AppraisalExportOperations,
+        AppraisalVersionOperations {
     Optional<AppraisalCycle> findByEmployeeAndYear(User employee, String year);
-    List<AppraisalCycle> findByEmployeeOrderByYearDesc(User employee);
+
+    @Query("SELECT new dev.thalha.appraxis.dto.CycleVersionDto(c.id, c.status, c.version) FROM AppraisalCycle c WHERE c.id = :id")
+    Optional<CycleVersionDto> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new dev.thalha.appraxis.dto.CycleVersionDto(c.id, c.status, c.version) FROM AppraisalCycle c WHERE c.id IN :ids")
+    List<CycleVersionDto> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT c.id FROM AppraisalCycle c JOIN c.employee e
+            WHERE c.year = :year
+              AND c.status = :status
+              AND (:designation IS NULL OR e.designation = :designation)
+            ORDER BY c.id
+            """)
+    List<Long> findIdsByYearAndStatus(@Param("year") String year,
+                                      @Param("status") AppraisalStatus status,
+                                      @Param("designation") String designation);
+
+    @Query("SELECT c.employee.id FROM AppraisalCycle c WHERE c.id = :id")
+    Optional<Long> findEmployeeIdById(@Param("id") Long id);
+
+    @Query("SELECT c.employee.id FROM AppraisalCycle c WHERE c.year = :year")
+    Set<Long> findEmployeeIdsWithCycleInYear(@Param("year") String year);
+
+    // Keyset page over cycles in a status, walking the (status, id) index. Null filters are ignored.
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.PendingReviewDto(c.id, e.name, e.designation, c.year, c.statusUpdatedAt)
+            FROM AppraisalCycle c
+            JOIN c.employee e
+            WHERE c.status = :status
+              AND (:afterId IS NULL OR c.id > :afterId)
+              AND (:year IS NULL OR c.year = :year)
+              AND (:designation IS NULL OR e.designation = :designation)
+              AND (:pmId IS NULL OR EXISTS (
+                    SELECT 1 FROM PmReview pr WHERE pr.appraisalCycle.id = c.id AND pr.reviewer.id = :pmId))
+            ORDER BY c.id
+            """)
+    List<PendingReviewDto> findStatusQueue(@Param("status") AppraisalStatus status,
+                                           @Param("afterId") Long afterId,
+                                           @Param("year") String year,
+                                           @Param("designation") String designation,
+                                           @Param("pmId") Long pmId,
+                                           Limit limit);
+
+    @Query("""
+            SELECT COUNT(c)
+            FROM AppraisalCycle c
+            JOIN c.employee e
+            WHERE c.status = :status
+              AND (:year IS NULL OR c.year = :year)
+              AND (:designation IS NULL OR e.designation = :designation)
+              AND (:pmId IS NULL OR EXISTS (
+                    SELECT 1 FROM PmReview pr WHERE pr.appraisalCycle.id = c.id AND pr.reviewer.id = :pmId))
+            """)
+    long countStatusQueue(@Param("status") AppraisalStatus status,
+                          @Param("year") String year,
+                          @Param("designation") String designation,
+                          @Param("pmId") Long pmId);
+
+    // Newest first, keyset on id
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.AppraisalSummaryDto(
+                c.id, e.id, e.name, e.designation, c.year, c.startDate, c.status, c.selfAssessmentSubmitted, c.bossComment)
+            FROM AppraisalCycle c
+            JOIN c.employee e
+            WHERE c.status IN :statuses
+              AND (:beforeId IS NULL OR c.id < :beforeId)
+            ORDER BY c.id DESC
+            """)
+    List<AppraisalSummaryDto> findSummaries(@Param("statuses") Collection<AppraisalStatus> statuses,
+                                            @Param("beforeId") Long beforeId,
+                                            Limit limit);
+
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.AppraisalSummaryDto(
+                c.id, e.id, e.name, e.designation, c.year, c.startDate, c.status, c.selfAssessmentSubmitted, c.bossComment)
+            FROM AppraisalCycle c
+            JOIN c.employee e
+            WHERE e.id = :employeeId
+              AND (:beforeId IS NULL OR c.id < :beforeId)
+            ORDER BY c.id DESC
+            """)
+    List<AppraisalSummaryDto> findSummariesByEmployee(@Param("employeeId") Long employeeId,
+                                                      @Param("beforeId") Long beforeId,
+                                                      Limit limit);
+
+    @Query("SELECT new dev.thalha.appraxis.dto.StatusCountDto(c.status, COUNT(c)) FROM AppraisalCycle c GROUP BY c.status")
+    List<StatusCountDto> countByStatus();
 }
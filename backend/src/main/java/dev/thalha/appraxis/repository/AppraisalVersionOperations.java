@@ -0,0 +1,13 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.model.AppraisalCycle;
+
+/**
+ * Version bumps for changes that do not touch the cycle row itself (ratings, clarifications)
+ * but alter what its report views show.
+ */
+public interface AppraisalVersionOperations {
+
+    // Increments the managed cycle's version when the current transaction commits
+    void bumpVersion(AppraisalCycle cycle);
+}
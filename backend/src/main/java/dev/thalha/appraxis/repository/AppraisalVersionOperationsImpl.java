@@ -0,0 +1,17 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.model.AppraisalCycle;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+
+class AppraisalVersionOperationsImpl implements AppraisalVersionOperations {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void bumpVersion(AppraisalCycle cycle) {
+        entityManager.lock(cycle, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+}
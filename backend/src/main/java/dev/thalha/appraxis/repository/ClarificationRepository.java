@@ -3,6 +3,8 @@ package dev.thalha.appraxis.repository;
 import dev.thalha.appraxis.model.Clarification;
 import dev.thalha.appraxis.model.PmRating;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,7 @@ import java.util.Optional;
 @Repository
 public interface ClarificationRepository extends JpaRepository<Clarification, Long> {
     Optional<Clarification> findByPmRating(PmRating pmRating);
+
+    @Query("SELECT COUNT(c) FROM Clarification c WHERE c.pmRating.pmReview.appraisalCycle.id = :cycleId")
+    long countByCycleId(@Param("cycleId") Long cycleId);
 }
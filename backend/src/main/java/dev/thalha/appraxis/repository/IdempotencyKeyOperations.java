@@ -0,0 +1,11 @@
+package dev.thalha.appraxis.repository;
+
+public interface IdempotencyKeyOperations {
+
+    // Records the key unless it is already taken. Waits on a concurrent claim of the same key until
+    // that transaction ends, so only one of two racing requests gets true.
+    boolean claim(Long userId, String key, String requestDigest);
+
+    // Stores the result of the submission that claimed the key, in the same transaction
+    void recordResponse(Long userId, String key, String responseBody);
+}
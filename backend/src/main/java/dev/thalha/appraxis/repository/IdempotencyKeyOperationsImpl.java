@@ -0,0 +1,34 @@
+package dev.thalha.appraxis.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class IdempotencyKeyOperationsImpl implements IdempotencyKeyOperations {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    IdempotencyKeyOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean claim(Long userId, String key, String requestDigest) {
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO idempotency_keys (user_id, idempotency_key, request_digest, created_at)
+                    VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+                    """, userId, key, requestDigest);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void recordResponse(Long userId, String key, String responseBody) {
+        jdbcTemplate.update("""
+                UPDATE idempotency_keys SET response_body = ?
+                WHERE user_id = ? AND idempotency_key = ?
+                """, responseBody, userId, key);
+    }
+}
@@ -0,0 +1,29 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.dto.PmRatingDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+class PmRatingBatchOperationsImpl implements PmRatingBatchOperations {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PmRatingBatchOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertPmRatings(Long reviewId, List<PmRatingDto> ratings) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO pm_ratings (pm_review_id, question_id, rating, comment) VALUES (?, ?, ?, ?)",
+                ratings,
+                ratings.size(),
+                (ps, dto) -> {
+                    ps.setLong(1, reviewId);
+                    ps.setLong(2, dto.getQuestionId());
+                    ps.setInt(3, dto.getRating());
+                    ps.setString(4, dto.getComment());
+                });
+    }
+}
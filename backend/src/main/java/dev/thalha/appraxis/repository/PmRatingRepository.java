@@ -1,9 +1,76 @@
 package dev.thalha.appraxis.repository;
 
+import dev.thalha.appraxis.dto.FeedbackViewDto;
+import dev.thalha.appraxis.dto.RatingBucketDto;
+import dev.thalha.appraxis.dto.ReportDto;
 import dev.thalha.appraxis.model.PmRating;
+import dev.thalha.appraxis.model.ReviewStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface PmRatingRepository extends JpaRepository<PmRating, Long> {
+public interface PmRatingRepository extends JpaRepository<PmRating, Long>, PmRatingBatchOperations {
+
+    // One row per question: PM average and count over the cycle's reviews in the given status,
+    // the employee's self rating, and the PM ratings z-scored against each reviewer's running
+    // stats (skipped for reviewers with no variance yet). Aggregated in the database, no entities are loaded.
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.ReportDto(
+                q.text,
+                q.category,
+                COALESCE(AVG(r.rating), 0.0),
+                (SELECT MAX(sa.rating) FROM SelfAssessment sa
+                  WHERE sa.question.id = q.id AND sa.appraisalCycle.id = :cycleId),
+                COUNT(r.id),
+                AVG(CASE WHEN s.m2 > 0 THEN (r.rating - s.mean) / SQRT(s.m2 / s.ratingCount) END))
+            FROM Question q
+            LEFT JOIN PmReview pr ON pr.appraisalCycle.id = :cycleId AND pr.status = :status
+            LEFT JOIN PmRating r ON r.pmReview.id = pr.id AND r.question.id = q.id
+            LEFT JOIN ReviewerStats s ON s.reviewerId = pr.reviewer.id
+            GROUP BY q.id, q.text, q.category
+            ORDER BY q.id
+            """)
+    List<ReportDto> aggregateReport(@Param("cycleId") Long cycleId, @Param("status") ReviewStatus status);
+
+    // Feedback rows with question text, reviewer name and clarification reply resolved in one join
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.FeedbackViewDto(
+                r.id, q.text, u.name, r.rating, COALESCE(r.comment, ''), c.employeeReply)
+            FROM PmRating r
+            JOIN r.question q
+            JOIN r.pmReview pr
+            JOIN pr.reviewer u
+            LEFT JOIN Clarification c ON c.pmRating.id = r.id
+            WHERE pr.appraisalCycle.id = :cycleId AND pr.status = :status
+            ORDER BY pr.id, r.id
+            """)
+    List<FeedbackViewDto> findFeedbackByCycle(@Param("cycleId") Long cycleId, @Param("status") ReviewStatus status);
+
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.FeedbackViewDto(
+                r.id, q.text, u.name, r.rating, COALESCE(r.comment, ''), c.employeeReply)
+            FROM PmRating r
+            JOIN r.question q
+            JOIN r.pmReview pr
+            JOIN pr.reviewer u
+            LEFT JOIN Clarification c ON c.pmRating.id = r.id
+            WHERE pr.id = :reviewId
+            ORDER BY r.id
+            """)
+    List<FeedbackViewDto> findFeedbackByReview(@Param("reviewId") Long reviewId);
+
+    // Company-wide PM rating counts per (question, rating) for a year; at most questions x 10 rows
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.RatingBucketDto(r.question.id, r.rating, COUNT(r))
+            FROM PmRating r
+            JOIN r.pmReview pr
+            JOIN pr.appraisalCycle c
+            WHERE c.year = :year AND pr.status = :status AND r.rating BETWEEN 1 AND 10
+            GROUP BY r.question.id, r.rating
+            """)
+    List<RatingBucketDto> countRatingsByQuestion(@Param("year") String year, @Param("status") ReviewStatus status);
 }
@@ -0,0 +1,11 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.dto.PmAssignmentDto;
+
+import java.util.Collection;
+
+public interface PmReviewBatchOperations {
+
+    // One PENDING review per (cycle, PM) pair, sent as JDBC batches
+    void insertPendingReviews(Collection<PmAssignmentDto> assignments);
+}
@@ -0,0 +1,31 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.dto.PmAssignmentDto;
+import dev.thalha.appraxis.model.ReviewStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+
+class PmReviewBatchOperationsImpl implements PmReviewBatchOperations {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PmReviewBatchOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertPendingReviews(Collection<PmAssignmentDto> assignments) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO pm_reviews (appraisal_cycle_id, reviewer_id, status, version) VALUES (?, ?, ?, 0)",
+                assignments,
+                BATCH_SIZE,
+                (ps, assignment) -> {
+                    ps.setLong(1, assignment.getCycleId());
+                    ps.setLong(2, assignment.getPmId());
+                    ps.setString(3, ReviewStatus.PENDING.name());
+                });
+    }
+}
@@ -1,17 +1,41 @@
 package dev.thalha.appraxis.repository;
 
+import dev.thalha.appraxis.dto.PmReviewSummaryDto;
 import dev.thalha.appraxis.model.AppraisalCycle;
 import dev.thalha.appraxis.model.PmReview;
 import dev.thalha.appraxis.model.ReviewStatus;
 import dev.thalha.appraxis.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PmReviewRepository extends JpaRepository<PmReview, Long> {
+public interface PmReviewRepository extends JpaRepository<PmReview, Long>, PmReviewBatchOperations {
     List<PmReview> findByReviewerAndStatus(User reviewer, ReviewStatus status);
     Optional<PmReview> findByAppraisalCycleAndReviewer(AppraisalCycle appraisalCycle, User reviewer);
+
+    @Query("SELECT pr.reviewer.id FROM PmReview pr WHERE pr.appraisalCycle.id = :cycleId")
+    List<Long> findReviewerIdsByCycleId(@Param("cycleId") Long cycleId);
+
+    // Newest first, keyset on review id
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.PmReviewSummaryDto(
+                pr.id, c.id, e.name, e.designation, c.year, c.status, pr.status, pr.feedbackDate)
+            FROM PmReview pr
+            JOIN pr.appraisalCycle c
+            JOIN c.employee e
+            WHERE pr.reviewer.id = :reviewerId
+              AND pr.status = :status
+              AND (:beforeId IS NULL OR pr.id < :beforeId)
+            ORDER BY pr.id DESC
+            """)
+    List<PmReviewSummaryDto> findSummariesByReviewer(@Param("reviewerId") Long reviewerId,
+                                                     @Param("status") ReviewStatus status,
+                                                     @Param("beforeId") Long beforeId,
+                                                     Limit limit);
 }
@@ -0,0 +1,9 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.model.ReportSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReportSnapshotRepository extends JpaRepository<ReportSnapshot, Long> {
+}
@@ -0,0 +1,7 @@
+package dev.thalha.appraxis.repository;
+
+public interface ReviewerStatsOperations {
+
+    // Creates an empty row unless one exists, so concurrent first reviews can both lock it
+    void insertIfAbsent(Long reviewerId);
+}
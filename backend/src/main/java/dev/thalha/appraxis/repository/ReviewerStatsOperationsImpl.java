@@ -0,0 +1,21 @@
+package dev.thalha.appraxis.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ReviewerStatsOperationsImpl implements ReviewerStatsOperations {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ReviewerStatsOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertIfAbsent(Long reviewerId) {
+        jdbcTemplate.update("""
+                INSERT INTO reviewer_stats (reviewer_id, rating_count, mean, m2, updated_at)
+                VALUES (?, 0, 0, 0, CURRENT_TIMESTAMP)
+                ON DUPLICATE KEY UPDATE reviewer_id = reviewer_id
+                """, reviewerId);
+    }
+}
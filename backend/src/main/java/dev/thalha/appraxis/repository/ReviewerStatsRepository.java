@@ -0,0 +1,47 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.dto.ReviewerBaselineDto;
+import dev.thalha.appraxis.dto.ReviewerRatingTotalsDto;
+import dev.thalha.appraxis.model.ReviewStatus;
+import dev.thalha.appraxis.model.ReviewerStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReviewerStatsRepository extends JpaRepository<ReviewerStats, Long>, ReviewerStatsOperations {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ReviewerStats s WHERE s.reviewerId = :reviewerId")
+    Optional<ReviewerStats> findForUpdate(@Param("reviewerId") Long reviewerId);
+
+    // Current stats of the reviewers of a cycle's reviews in the given status
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.ReviewerBaselineDto(
+                s.reviewerId, s.ratingCount, s.mean,
+                CASE WHEN s.ratingCount > 0 THEN SQRT(s.m2 / s.ratingCount) ELSE 0.0 END)
+            FROM ReviewerStats s
+            WHERE s.reviewerId IN (SELECT pr.reviewer.id FROM PmReview pr
+                                   WHERE pr.appraisalCycle.id = :cycleId AND pr.status = :status)
+            ORDER BY s.reviewerId
+            """)
+    List<ReviewerBaselineDto> findBaselinesForCycle(@Param("cycleId") Long cycleId, @Param("status") ReviewStatus status);
+
+    // Rating totals of reviewers that have submitted reviews but have no stats row yet
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.ReviewerRatingTotalsDto(
+                pr.reviewer.id, COUNT(r), SUM(r.rating), SUM(r.rating * r.rating))
+            FROM PmRating r
+            JOIN r.pmReview pr
+            WHERE pr.status = :status
+              AND NOT EXISTS (SELECT 1 FROM ReviewerStats s WHERE s.reviewerId = pr.reviewer.id)
+            GROUP BY pr.reviewer.id
+            """)
+    List<ReviewerRatingTotalsDto> findUnseededTotals(@Param("status") ReviewStatus status);
+}
@@ -0,0 +1,14 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.dto.RatingSubmissionDto;
+
+import java.util.List;
+
+/**
+ * Writes a whole self-assessment form as one JDBC batch instead of one persist per answer.
+ * Callers validate question ids first; rows are not loaded into the persistence context.
+ */
+public interface SelfAssessmentBatchOperations {
+
+    void insertSelfAssessments(Long cycleId, List<RatingSubmissionDto> ratings);
+}
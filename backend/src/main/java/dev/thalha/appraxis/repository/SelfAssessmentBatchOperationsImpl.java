@@ -0,0 +1,29 @@
+package dev.thalha.appraxis.repository;
+
+import dev.thalha.appraxis.dto.RatingSubmissionDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+class SelfAssessmentBatchOperationsImpl implements SelfAssessmentBatchOperations {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    SelfAssessmentBatchOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertSelfAssessments(Long cycleId, List<RatingSubmissionDto> ratings) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO self_assessments (appraisal_cycle_id, question_id, rating, comment) VALUES (?, ?, ?, ?)",
+                ratings,
+                ratings.size(),
+                (ps, dto) -> {
+                    ps.setLong(1, cycleId);
+                    ps.setLong(2, dto.getQuestionId());
+                    ps.setInt(3, dto.getRating());
+                    ps.setString(4, dto.getComment());
+                });
+    }
+}
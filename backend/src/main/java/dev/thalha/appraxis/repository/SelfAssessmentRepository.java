@@ -1,13 +1,25 @@
 package dev.thalha.appraxis.repository;
 
+import dev.thalha.appraxis.dto.RatingBucketDto;
 import dev.thalha.appraxis.model.AppraisalCycle;
 import dev.thalha.appraxis.model.SelfAssessment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface SelfAssessmentRepository extends JpaRepository<SelfAssessment, Long> {
+public interface SelfAssessmentRepository extends JpaRepository<SelfAssessment, Long>, SelfAssessmentBatchOperations {
     List<SelfAssessment> findByAppraisalCycle(AppraisalCycle appraisalCycle);
+
+    @Query("""
+            SELECT new dev.thalha.appraxis.dto.RatingBucketDto(sa.question.id, sa.rating, COUNT(sa))
+            FROM SelfAssessment sa
+            JOIN sa.appraisalCycle c
+            WHERE c.year = :year AND sa.rating BETWEEN 1 AND 10
+            GROUP BY sa.question.id, sa.rating
+            """)
+    List<RatingBucketDto> countRatingsByQuestion(@Param("year") String year);
 }
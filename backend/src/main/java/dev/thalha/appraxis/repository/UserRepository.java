@@ -1,20 +1,52 @@
 package dev.thalha.appraxis.repository;
 
 import dev.thalha.appraxis.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dev.thalha.appraxis.model.Role;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
     
     // Find users who have a specific role
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r = :role")
     List<User> findByRole(@Param("role") Role role);
+
+    // Employees who are not also BOSS, matching the HR employee list
+    @Query("""
+            SELECT u.id FROM User u JOIN u.roles r
+            WHERE r = dev.thalha.appraxis.model.Role.EMPLOYEE
+              AND (:designation IS NULL OR u.designation = :designation)
+              AND NOT EXISTS (SELECT 1 FROM User b JOIN b.roles br
+                              WHERE b.id = u.id AND br = dev.thalha.appraxis.model.Role.BOSS)
+            """)
+    List<Long> findEligibleEmployeeIds(@Param("designation") String designation);
+
+    @Query("""
+            SELECT u.id FROM User u JOIN u.roles r
+            WHERE r = dev.thalha.appraxis.model.Role.EMPLOYEE
+              AND u.id IN :ids
+              AND (:designation IS NULL OR u.designation = :designation)
+              AND NOT EXISTS (SELECT 1 FROM User b JOIN b.roles br
+                              WHERE b.id = u.id AND br = dev.thalha.appraxis.model.Role.BOSS)
+            """)
+    List<Long> findEligibleEmployeeIdsIn(@Param("ids") Collection<Long> ids, @Param("designation") String designation);
+
+    @Query("SELECT u.id FROM User u JOIN u.roles r WHERE r = :role AND u.id IN :ids")
+    List<Long> findIdsWithRoleIn(@Param("ids") Collection<Long> ids, @Param("role") Role role);
+
+    @Query("SELECT u.securityVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findSecurityVersionById(@Param("id") Long id);
 }
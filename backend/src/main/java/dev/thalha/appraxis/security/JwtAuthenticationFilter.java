@@ -1,5 +1,8 @@
 package dev.thalha.appraxis.security;
 
+import dev.thalha.appraxis.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -31,16 +35,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
-        userEmail = jwtUtils.extractUsername(jwt);
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if (jwtUtils.isTokenValid(jwt, userDetails)) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(jwt);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -54,4 +56,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    // Null when the token is invalid, expired or revoked by a security version bump
+    private UserDetails resolvePrincipal(String jwt) {
+        final Claims claims;
+        try {
+            claims = jwtUtils.extractAllClaims(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        User principal = jwtUtils.toPrincipal(claims);
+        if (principal == null) {
+            // Token issued before claims-based authentication
+            UserDetails userDetails = this.userDetailsService.loadUserByUsername(claims.getSubject());
+            return jwtUtils.isTokenValid(jwt, userDetails) ? userDetails : null;
+        }
+
+        Integer currentVersion = principalCache.currentSecurityVersion(principal.getId());
+        return currentVersion != null && currentVersion == principal.getSecurityVersion() ? principal : null;
+    }
 }
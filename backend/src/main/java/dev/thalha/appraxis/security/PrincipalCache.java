@@ -0,0 +1,40 @@
+package dev.thalha.appraxis.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.thalha.appraxis.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded, expiring cache of each user's current security version. Claims-based tokens are
+ * checked against it instead of loading the user on every request; entries are evicted when
+ * a user's password or roles change and otherwise expire after the configured TTL.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> securityVersions;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${jwt.principal-cache.max-size}") long maxSize,
+                          @Value("${jwt.principal-cache.ttl}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.securityVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Null if the user no longer exists
+    public Integer currentSecurityVersion(Long userId) {
+        return securityVersions.get(userId, id -> userRepository.findSecurityVersionById(id).orElse(null));
+    }
+
+    public void evict(Long userId) {
+        securityVersions.invalidate(userId);
+    }
+}
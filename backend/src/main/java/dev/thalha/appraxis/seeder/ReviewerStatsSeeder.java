@@ -0,0 +1,23 @@
+package dev.thalha.appraxis.seeder;
+
+import dev.thalha.appraxis.service.ReviewerCalibrationService;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReviewerStatsSeeder implements CommandLineRunner {
+
+    private final ReviewerCalibrationService reviewerCalibrationService;
+
+    public ReviewerStatsSeeder(ReviewerCalibrationService reviewerCalibrationService) {
+        this.reviewerCalibrationService = reviewerCalibrationService;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        int seeded = reviewerCalibrationService.seedFromHistory();
+        if (seeded > 0) {
+            System.out.println("Seeded calibration stats for " + seeded + " reviewers.");
+        }
+    }
+}
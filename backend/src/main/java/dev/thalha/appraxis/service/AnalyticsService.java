@@ -0,0 +1,152 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.dto.CategoryDistributionDto;
+import dev.thalha.appraxis.dto.QuestionDistributionDto;
+import dev.thalha.appraxis.dto.RatingAnalyticsDto;
+import dev.thalha.appraxis.dto.RatingBucketDto;
+import dev.thalha.appraxis.dto.RatingStatsDto;
+import dev.thalha.appraxis.event.RatingsSubmittedEvent;
+import dev.thalha.appraxis.model.Question;
+import dev.thalha.appraxis.model.ReviewStatus;
+import dev.thalha.appraxis.repository.PmRatingRepository;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import dev.thalha.appraxis.repository.SelfAssessmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Company-wide rating distributions per year. Each year is computed from two grouped
+ * queries (PM and self ratings counted per question and rating value) and cached until a
+ * rating for that year is committed. The commit also drops a computation still in progress,
+ * which may have read the ratings from before it.
+ */
+@Service
+public class AnalyticsService {
+
+    private static final int MAX_RATING = 10;
+
+    private final PmRatingRepository pmRatingRepository;
+    private final SelfAssessmentRepository selfAssessmentRepository;
+    private final QuestionRepository questionRepository;
+    private final SingleFlightCache<String, RatingAnalyticsDto> byYear;
+
+    public AnalyticsService(PmRatingRepository pmRatingRepository,
+                            SelfAssessmentRepository selfAssessmentRepository,
+                            QuestionRepository questionRepository,
+                            MeterRegistry registry,
+                            @Value("${appraxis.analytics.cache.max-years}") long maxYears,
+                            @Value("${appraxis.analytics.cache.ttl}") Duration ttl) {
+        this.pmRatingRepository = pmRatingRepository;
+        this.selfAssessmentRepository = selfAssessmentRepository;
+        this.questionRepository = questionRepository;
+        this.byYear = new SingleFlightCache<>("rating-analytics", maxYears, ttl, registry);
+    }
+
+    public RatingAnalyticsDto getRatingDistribution(String year) {
+        return byYear.get(year, () -> compute(year));
+    }
+
+    @TransactionalEventListener
+    public void onRatingsSubmitted(RatingsSubmittedEvent event) {
+        byYear.invalidate(event.getYear());
+    }
+
+    private RatingAnalyticsDto compute(String year) {
+        Map<Long, Histogram> pm = toHistograms(pmRatingRepository.countRatingsByQuestion(year, ReviewStatus.SUBMITTED));
+        Map<Long, Histogram> self = toHistograms(selfAssessmentRepository.countRatingsByQuestion(year));
+
+        List<QuestionDistributionDto> questions = new ArrayList<>();
+        Map<String, Histogram[]> byCategory = new LinkedHashMap<>();
+        for (Question question : questionRepository.findAll()) {
+            Histogram pmHistogram = pm.getOrDefault(question.getId(), new Histogram());
+            Histogram selfHistogram = self.getOrDefault(question.getId(), new Histogram());
+            // Retired questions only appear if they were rated that year
+            if (!question.isActive() && pmHistogram.count() == 0 && selfHistogram.count() == 0) {
+                continue;
+            }
+
+            questions.add(new QuestionDistributionDto(
+                    question.getId(),
+                    question.getText(),
+                    question.getCategory(),
+                    pmHistogram.toDto(),
+                    selfHistogram.toDto()
+            ));
+
+            Histogram[] category = byCategory.computeIfAbsent(question.getCategory(),
+                    k -> new Histogram[]{new Histogram(), new Histogram()});
+            category[0].addAll(pmHistogram);
+            category[1].addAll(selfHistogram);
+        }
+
+        List<CategoryDistributionDto> categories = new ArrayList<>();
+        for (Map.Entry<String, Histogram[]> entry : byCategory.entrySet()) {
+            categories.add(new CategoryDistributionDto(
+                    entry.getKey(),
+                    entry.getValue()[0].toDto(),
+                    entry.getValue()[1].toDto()
+            ));
+        }
+
+        return new RatingAnalyticsDto(year, questions, categories);
+    }
+
+    private static Map<Long, Histogram> toHistograms(List<RatingBucketDto> buckets) {
+        Map<Long, Histogram> histograms = new HashMap<>();
+        for (RatingBucketDto bucket : buckets) {
+            histograms.computeIfAbsent(bucket.getQuestionId(), k -> new Histogram())
+                    .add(bucket.getRating(), bucket.getCount());
+        }
+        return histograms;
+    }
+
+    // Ratings are integers 1-10, so mean and stddev are exact from the bucket counts
+    private static class Histogram {
+        private final long[] buckets = new long[MAX_RATING];
+
+        void add(int rating, long count) {
+            buckets[rating - 1] += count;
+        }
+
+        void addAll(Histogram other) {
+            for (int i = 0; i < MAX_RATING; i++) {
+                buckets[i] += other.buckets[i];
+            }
+        }
+
+        long count() {
+            long count = 0;
+            for (long bucket : buckets) {
+                count += bucket;
+            }
+            return count;
+        }
+
+        RatingStatsDto toDto() {
+            long count = count();
+            if (count == 0) {
+                return new RatingStatsDto(buckets.clone(), null, null, 0);
+            }
+
+            double sum = 0;
+            double sumOfSquares = 0;
+            for (int i = 0; i < MAX_RATING; i++) {
+                int rating = i + 1;
+                sum += (double) rating * buckets[i];
+                sumOfSquares += (double) rating * rating * buckets[i];
+            }
+            double mean = sum / count;
+            double variance = Math.max(0, sumOfSquares / count - mean * mean);
+            return new RatingStatsDto(buckets.clone(), mean, Math.sqrt(variance), count);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.dto.AppraisalExportRowDto;
+import dev.thalha.appraxis.repository.AppraisalRepository;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes a year's appraisal data straight from the database cursor to the response,
+ * flushing every few hundred rows so the download starts before the query finishes.
+ */
+@Service
+public class AppraisalExportService {
+
+    private static final int FLUSH_EVERY = 200;
+
+    private static final String[] CSV_HEADER = {
+            "cycle_id", "year", "employee_id", "employee_name", "designation", "status",
+            "question_id", "category", "question", "self_rating", "self_comment",
+            "pm_name", "pm_rating", "pm_comment", "boss_comment"
+    };
+
+    private final AppraisalRepository appraisalRepository;
+    private final JsonMapper jsonMapper;
+
+    public AppraisalExportService(AppraisalRepository appraisalRepository, JsonMapper jsonMapper) {
+        this.appraisalRepository = appraisalRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public void writeCsv(String year, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+        stream(year, writer, row -> writeCsvLine(writer,
+                row.getCycleId(), row.getYear(), row.getEmployeeId(), row.getEmployeeName(),
+                row.getDesignation(), row.getStatus(), row.getQuestionId(), row.getCategory(),
+                row.getQuestionText(), row.getSelfRating(), row.getSelfComment(), row.getPmName(),
+                row.getPmRating(), row.getPmComment(), row.getBossComment()));
+    }
+
+    public void writeNdjson(String year, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        stream(year, writer, row -> {
+            try {
+                writer.write(jsonMapper.writeValueAsString(row));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void stream(String year, Writer writer, Consumer<AppraisalExportRowDto> rowWriter) throws IOException {
+        int[] written = {0};
+        try {
+            appraisalRepository.streamExportRows(year, row -> {
+                rowWriter.accept(row);
+                if (++written[0] % FLUSH_EVERY == 0) {
+                    try {
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; rethrowing ends the query and releases the connection
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvField(values[i]));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Keep free-text comments from being evaluated as formulas when opened in a spreadsheet
+        if (!text.isEmpty() && !(value instanceof Number) && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
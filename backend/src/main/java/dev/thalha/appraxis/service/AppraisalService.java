@@ -1,28 +1,54 @@
 package dev.thalha.appraxis.service;
 
+import dev.thalha.appraxis.dto.AppraisalSummaryDto;
+import dev.thalha.appraxis.dto.BulkInitiationRequestDto;
+import dev.thalha.appraxis.dto.BulkInitiationResultDto;
+import dev.thalha.appraxis.dto.BulkPmAssignmentRequestDto;
+import dev.thalha.appraxis.dto.BulkPmAssignmentResultDto;
+import dev.thalha.appraxis.dto.CursorPageDto;
+import dev.thalha.appraxis.dto.PmAssignmentDto;
+import dev.thalha.appraxis.dto.PmAssignmentResultDto;
+import dev.thalha.appraxis.dto.StatusCountDto;
+import dev.thalha.appraxis.event.PmAssignedEvent;
 import dev.thalha.appraxis.model.AppraisalCycle;
 import dev.thalha.appraxis.model.AppraisalStatus;
 import dev.thalha.appraxis.model.Role;
 import dev.thalha.appraxis.model.User;
 import dev.thalha.appraxis.repository.AppraisalRepository;
 import dev.thalha.appraxis.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class AppraisalService {
 
+    private static final int IN_CLAUSE_CHUNK = 1000;
 
     private final AppraisalRepository appraisalRepository;
     private final UserRepository userRepository;
     private final dev.thalha.appraxis.repository.PmReviewRepository pmReviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AppraisalService(AppraisalRepository appraisalRepository, UserRepository userRepository, dev.thalha.appraxis.repository.PmReviewRepository pmReviewRepository) {
+    public AppraisalService(AppraisalRepository appraisalRepository, UserRepository userRepository, dev.thalha.appraxis.repository.PmReviewRepository pmReviewRepository,
+                            ApplicationEventPublisher eventPublisher) {
         this.appraisalRepository = appraisalRepository;
         this.userRepository = userRepository;
         this.pmReviewRepository = pmReviewRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<User> getAllEmployees() {
@@ -36,8 +62,18 @@ public class AppraisalService {
         return userRepository.findByRole(Role.PROJECT_MANAGER);
     }
 
-    public List<AppraisalCycle> getAllAppraisals() {
-        return appraisalRepository.findAll();
+    public CursorPageDto<AppraisalSummaryDto> getAllAppraisals(Long cursor, int size, List<AppraisalStatus> statuses) {
+        int pageSize = CursorPageDto.clampSize(size);
+        Collection<AppraisalStatus> filter = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(AppraisalStatus.class)
+                : statuses;
+
+        List<AppraisalSummaryDto> rows = appraisalRepository.findSummaries(filter, cursor, Limit.of(pageSize + 1));
+        return CursorPageDto.fromRows(rows, pageSize, AppraisalSummaryDto::getId, null);
+    }
+
+    public List<StatusCountDto> getStatusCounts() {
+        return appraisalRepository.countByStatus();
     }
 
     public AppraisalCycle initiateAppraisal(Long employeeId, String year, User initiator) {
@@ -53,9 +89,13 @@ public class AppraisalService {
             throw new RuntimeException("An appraisal for this employee already exists for year " + year);
         }
 
+        // The principal is built from token claims and lacks the profile the response shows
+        User hrInitiator = userRepository.findById(initiator.getId())
+                .orElseThrow(() -> new RuntimeException("Initiator not found"));
+
         AppraisalCycle appraisal = new AppraisalCycle();
         appraisal.setEmployee(employee);
-        appraisal.setHrInitiator(initiator);
+        appraisal.setHrInitiator(hrInitiator);
         appraisal.setStartDate(LocalDate.now());
         appraisal.setStatus(AppraisalStatus.OPEN);
         appraisal.setYear(year);
@@ -63,6 +103,146 @@ public class AppraisalService {
         return appraisalRepository.save(appraisal);
     }
     
+    /**
+     * Opens cycles for the selected employees (or every eligible one) in a single transaction.
+     * Employees who already have a cycle for the year are skipped rather than failing the batch.
+     */
+    @Transactional
+    public BulkInitiationResultDto initiateAppraisals(BulkInitiationRequestDto request, User initiator) {
+        String year = request.getYear();
+        if (year == null || year.isBlank()) {
+            throw new RuntimeException("Year is required");
+        }
+        String designation = request.getDesignation() == null || request.getDesignation().isBlank()
+                ? null
+                : request.getDesignation();
+
+        List<Long> ineligibleIds = new ArrayList<>();
+        Collection<Long> eligibleIds;
+        if (request.getEmployeeIds() == null || request.getEmployeeIds().isEmpty()) {
+            eligibleIds = userRepository.findEligibleEmployeeIds(designation);
+        } else {
+            Set<Long> requested = new LinkedHashSet<>(request.getEmployeeIds());
+            Set<Long> eligible = new HashSet<>();
+            for (List<Long> chunk : chunks(new ArrayList<>(requested))) {
+                eligible.addAll(userRepository.findEligibleEmployeeIdsIn(chunk, designation));
+            }
+            for (Long id : requested) {
+                if (!eligible.contains(id)) {
+                    ineligibleIds.add(id);
+                }
+            }
+            requested.retainAll(eligible);
+            eligibleIds = requested;
+        }
+
+        Set<Long> existing = appraisalRepository.findEmployeeIdsWithCycleInYear(year);
+        List<Long> toCreate = eligibleIds.stream()
+                .filter(id -> !existing.contains(id))
+                .toList();
+
+        int created = toCreate.isEmpty()
+                ? 0
+                : appraisalRepository.insertOpenCycles(toCreate, initiator.getId(), year, LocalDate.now());
+
+        return new BulkInitiationResultDto(year, created, eligibleIds.size() - toCreate.size(), ineligibleIds);
+    }
+
+    /**
+     * Assigns PMs to many cycles in one transaction: the listed (cycle, PM) pairs, or every OPEN
+     * cycle of a year (optionally of one designation) to a single PM. Statuses and roles are
+     * validated in bulk and invalid pairs are reported rather than failing the batch. If a valid
+     * cycle leaves OPEN while the batch runs, the whole batch is rolled back with a conflict.
+     */
+    @Transactional
+    public BulkPmAssignmentResultDto assignPms(BulkPmAssignmentRequestDto request) {
+        List<PmAssignmentDto> requested;
+        if (request.getAssignments() != null && !request.getAssignments().isEmpty()) {
+            requested = request.getAssignments();
+        } else {
+            if (request.getPmId() == null || request.getYear() == null || request.getYear().isBlank()) {
+                throw new RuntimeException("Either assignments, or a PM and a year, are required");
+            }
+            String designation = request.getDesignation() == null || request.getDesignation().isBlank()
+                    ? null
+                    : request.getDesignation();
+            requested = appraisalRepository.findIdsByYearAndStatus(request.getYear(), AppraisalStatus.OPEN, designation)
+                    .stream()
+                    .map(cycleId -> new PmAssignmentDto(cycleId, request.getPmId()))
+                    .toList();
+        }
+
+        Set<Long> cycleIds = new HashSet<>();
+        Set<Long> pmIds = new HashSet<>();
+        for (PmAssignmentDto assignment : requested) {
+            if (assignment.getCycleId() != null) {
+                cycleIds.add(assignment.getCycleId());
+            }
+            if (assignment.getPmId() != null) {
+                pmIds.add(assignment.getPmId());
+            }
+        }
+        Map<Long, AppraisalStatus> statuses = new HashMap<>();
+        for (List<Long> chunk : chunks(new ArrayList<>(cycleIds))) {
+            appraisalRepository.findVersionsByIdIn(chunk).forEach(cycle -> statuses.put(cycle.getId(), cycle.getStatus()));
+        }
+        Set<Long> validPmIds = new HashSet<>();
+        for (List<Long> chunk : chunks(new ArrayList<>(pmIds))) {
+            validPmIds.addAll(userRepository.findIdsWithRoleIn(chunk, Role.PROJECT_MANAGER));
+        }
+
+        List<PmAssignmentResultDto> results = new ArrayList<>();
+        List<PmAssignmentDto> accepted = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (PmAssignmentDto assignment : requested) {
+            String reason = rejection(assignment, statuses, validPmIds, seen);
+            if (reason == null) {
+                accepted.add(assignment);
+            }
+            results.add(new PmAssignmentResultDto(assignment.getCycleId(), assignment.getPmId(), reason == null, reason));
+        }
+
+        if (!accepted.isEmpty()) {
+            List<Long> acceptedIds = accepted.stream().map(PmAssignmentDto::getCycleId).toList();
+            // Status first: the guarded update locks the cycles, so no concurrent assignment can slip in before the reviews
+            if (appraisalRepository.markPendingPmReview(acceptedIds) != acceptedIds.size()) {
+                throw new OptimisticLockingFailureException("Some appraisals left OPEN status during the assignment");
+            }
+            pmReviewRepository.insertPendingReviews(accepted);
+            accepted.forEach(assignment ->
+                    eventPublisher.publishEvent(new PmAssignedEvent(assignment.getCycleId(), assignment.getPmId())));
+        }
+
+        return new BulkPmAssignmentResultDto(accepted.size(), requested.size() - accepted.size(), results);
+    }
+
+    private static String rejection(PmAssignmentDto assignment, Map<Long, AppraisalStatus> statuses,
+                                    Set<Long> validPmIds, Set<Long> seen) {
+        if (assignment.getCycleId() == null || !statuses.containsKey(assignment.getCycleId())) {
+            return "Appraisal cycle not found";
+        }
+        if (!seen.add(assignment.getCycleId())) {
+            return "Appraisal cycle is listed more than once";
+        }
+        if (statuses.get(assignment.getCycleId()) != AppraisalStatus.OPEN) {
+            return "Appraisal is not in OPEN status";
+        }
+        if (assignment.getPmId() == null || !validPmIds.contains(assignment.getPmId())) {
+            return "Selected user is not a Project Manager";
+        }
+        return null;
+    }
+
+    // Keeps IN lists to a size every driver and planner handles comfortably
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK) {
+            chunks.add(ids.subList(i, Math.min(i + IN_CLAUSE_CHUNK, ids.size())));
+        }
+        return chunks;
+    }
+
+    @Transactional
     public void assignPm(Long cycleId, Long pmId) {
         AppraisalCycle cycle = appraisalRepository.findById(cycleId)
                 .orElseThrow(() -> new RuntimeException("Appraisal cycle not found"));
@@ -89,5 +269,7 @@ public class AppraisalService {
         // Update cycle status
         cycle.setStatus(AppraisalStatus.PENDING_PM_REVIEW);
         appraisalRepository.save(cycle);
+
+        eventPublisher.publishEvent(new PmAssignedEvent(cycleId, pmId));
     }
 }
@@ -1,49 +1,103 @@
 package dev.thalha.appraxis.service;
 
 import dev.thalha.appraxis.dto.BossSummaryDto;
+import dev.thalha.appraxis.dto.CursorPageDto;
+import dev.thalha.appraxis.dto.CycleVersionDto;
 import dev.thalha.appraxis.dto.FeedbackViewDto;
+import dev.thalha.appraxis.dto.PendingReviewDto;
+import dev.thalha.appraxis.dto.ReportSnapshotDto;
+import dev.thalha.appraxis.event.CycleClosedEvent;
 import dev.thalha.appraxis.model.AppraisalCycle;
 import dev.thalha.appraxis.model.AppraisalStatus;
 import dev.thalha.appraxis.repository.AppraisalRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Service
 public class BossService {
 
     private final AppraisalRepository appraisalRepository;
     private final EmployeeService employeeService; // Reuse report and feedback generation
+    private final ReportSnapshotService reportSnapshotService;
+    private final Executor fanOutExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CycleViewCache cycleViewCache;
 
-    public BossService(AppraisalRepository appraisalRepository, EmployeeService employeeService) {
+    public BossService(AppraisalRepository appraisalRepository, EmployeeService employeeService,
+                       ReportSnapshotService reportSnapshotService,
+                       @Qualifier("fanOutExecutor") Executor fanOutExecutor,
+                       ApplicationEventPublisher eventPublisher,
+                       CycleViewCache cycleViewCache) {
         this.appraisalRepository = appraisalRepository;
         this.employeeService = employeeService;
+        this.reportSnapshotService = reportSnapshotService;
+        this.fanOutExecutor = fanOutExecutor;
+        this.eventPublisher = eventPublisher;
+        this.cycleViewCache = cycleViewCache;
     }
 
-    public List<AppraisalCycle> getPendingReviews() {
-        return appraisalRepository.findAll().stream()
-                .filter(a -> a.getStatus() == AppraisalStatus.PENDING_BOSS_REVIEW)
-                .toList(); 
+    public CycleVersionDto getCycleVersion(Long cycleId) {
+        return employeeService.getCycleVersion(cycleId);
+    }
+
+    public CursorPageDto<PendingReviewDto> getPendingReviews(Long cursor, int size, String year, String designation, Long pmId) {
+        int pageSize = CursorPageDto.clampSize(size);
+
+        // Fetch one extra row to learn whether another page follows
+        List<PendingReviewDto> rows = appraisalRepository.findStatusQueue(
+                AppraisalStatus.PENDING_BOSS_REVIEW, cursor, year, designation, pmId, Limit.of(pageSize + 1));
+        long total = appraisalRepository.countStatusQueue(AppraisalStatus.PENDING_BOSS_REVIEW, year, designation, pmId);
+        return CursorPageDto.fromRows(rows, pageSize, PendingReviewDto::getCycleId, total);
     }
 
     public BossSummaryDto getSummary(Long cycleId) {
+        // Viewers of the same cycle share one computation
+        return cycleViewCache.summary(cycleId, () -> buildSummary(cycleId));
+    }
+
+    private BossSummaryDto buildSummary(Long cycleId) {
+        // Report and feedback are independent reads; run them on separate connections. The cycle
+        // lookup below returns its connection before join(), so this thread holds none while waiting.
+        CompletableFuture<ReportSnapshotDto> report = CompletableFuture.supplyAsync(
+                () -> reportSnapshotService.getSnapshot(cycleId), fanOutExecutor);
+        CompletableFuture<List<FeedbackViewDto>> clarifications = CompletableFuture.supplyAsync(
+                () -> employeeService.getFeedback(cycleId), fanOutExecutor);
+
         AppraisalCycle cycle = appraisalRepository.findById(cycleId)
                 .orElseThrow(() -> new RuntimeException("Cycle not found"));
-
-        var reports = employeeService.getReport(cycleId);
-        var clarifications = employeeService.getFeedback(cycleId);
+        ReportSnapshotDto snapshot = join(report);
 
         return new BossSummaryDto(
                 cycle.getId(),
                 cycle.getEmployee().getName(),
                 cycle.getEmployee().getDesignation(),
                 cycle.getStatus().name(),
-                reports,
-                clarifications
+                snapshot.getQuestions(),
+                snapshot.getCategories(),
+                join(clarifications),
+                snapshot.getReviewerBaselines()
         );
     }
 
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @Transactional
     public void finalizeAppraisal(Long cycleId, String bossComment) {
         AppraisalCycle cycle = appraisalRepository.findById(cycleId)
@@ -60,5 +114,8 @@ public class BossService {
         cycle.setBossComment(bossComment);
         cycle.setStatus(AppraisalStatus.CLOSED);
         appraisalRepository.save(cycle);
+
+        reportSnapshotService.freeze(cycleId);
+        eventPublisher.publishEvent(new CycleClosedEvent(cycleId, cycle.getYear()));
     }
 }
@@ -0,0 +1,72 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.dto.BossSummaryDto;
+import dev.thalha.appraxis.dto.ReportDto;
+import dev.thalha.appraxis.event.ClarificationSubmittedEvent;
+import dev.thalha.appraxis.event.CycleClosedEvent;
+import dev.thalha.appraxis.event.PmAssignedEvent;
+import dev.thalha.appraxis.event.RatingsSubmittedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Per-cycle report lists and boss summaries, shared by concurrent viewers of the same cycle.
+ * Entries are evicted once any write that changes the cycle commits.
+ */
+@Component
+public class CycleViewCache {
+
+    private final SingleFlightCache<Long, List<ReportDto>> reports;
+    private final SingleFlightCache<Long, BossSummaryDto> summaries;
+
+    public CycleViewCache(MeterRegistry registry,
+                          @Value("${appraxis.view-cache.max-cycles}") long maxCycles,
+                          @Value("${appraxis.view-cache.ttl}") Duration ttl) {
+        this.reports = new SingleFlightCache<>("cycle-reports", maxCycles, ttl, registry);
+        this.summaries = new SingleFlightCache<>("boss-summaries", maxCycles, ttl, registry);
+    }
+
+    public List<ReportDto> report(Long cycleId, Supplier<List<ReportDto>> loader) {
+        return reports.get(cycleId, loader);
+    }
+
+    public BossSummaryDto summary(Long cycleId, Supplier<BossSummaryDto> loader) {
+        return summaries.get(cycleId, loader);
+    }
+
+    public void evict(Long cycleId) {
+        reports.invalidate(cycleId);
+        summaries.invalidate(cycleId);
+    }
+
+    public void evictAll() {
+        reports.invalidateAll();
+        summaries.invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void onRatingsSubmitted(RatingsSubmittedEvent event) {
+        evict(event.getCycleId());
+    }
+
+    @TransactionalEventListener
+    public void onClarificationSubmitted(ClarificationSubmittedEvent event) {
+        evict(event.getCycleId());
+    }
+
+    @TransactionalEventListener
+    public void onPmAssigned(PmAssignedEvent event) {
+        evict(event.getCycleId());
+    }
+
+    @TransactionalEventListener
+    public void onCycleClosed(CycleClosedEvent event) {
+        evict(event.getCycleId());
+    }
+}
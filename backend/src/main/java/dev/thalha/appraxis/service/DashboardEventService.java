@@ -0,0 +1,229 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.dto.DashboardEventDto;
+import dev.thalha.appraxis.event.ClarificationSubmittedEvent;
+import dev.thalha.appraxis.event.CycleClosedEvent;
+import dev.thalha.appraxis.event.PmAssignedEvent;
+import dev.thalha.appraxis.event.RatingsSubmittedEvent;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.repository.AppraisalRepository;
+import dev.thalha.appraxis.repository.PmReviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes pending-work changes to open dashboards over Server-Sent Events, so dashboards
+ * refetch only when something they show has changed. Events are routed after the write
+ * commits; a connected but idle dashboard costs no queries.
+ *
+ * Each connection has a bounded buffer drained on the bounded event executor. A client that
+ * falls a full buffer behind, or whose drain finds the executor saturated, is disconnected and
+ * refetches when it reconnects.
+ */
+@Service
+public class DashboardEventService {
+
+    private final AppraisalRepository appraisalRepository;
+    private final PmReviewRepository pmReviewRepository;
+    private final TaskExecutor executor;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final Counter overflows;
+
+    public DashboardEventService(AppraisalRepository appraisalRepository,
+                                 PmReviewRepository pmReviewRepository,
+                                 @Qualifier("dashboardEventExecutor") TaskExecutor executor,
+                                 MeterRegistry registry,
+                                 @Value("${appraxis.events.timeout}") Duration timeout,
+                                 @Value("${appraxis.events.buffer-size}") int bufferSize) {
+        this.appraisalRepository = appraisalRepository;
+        this.pmReviewRepository = pmReviewRepository;
+        this.executor = executor;
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        for (Role role : Role.values()) {
+            Gauge.builder("appraxis.events.connections", connections,
+                            all -> all.stream().filter(connection -> connection.role == role).count())
+                    .tag("role", role.name())
+                    .register(registry);
+        }
+        this.overflows = Counter.builder("appraxis.events.overflows").register(registry);
+    }
+
+    public SseEmitter subscribe(Role role, Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(role, userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> connections.remove(connection));
+        emitter.onTimeout(() -> connections.remove(connection));
+        emitter.onError(e -> connections.remove(connection));
+        connections.add(connection);
+        // Commits the response headers so the client knows the stream is open
+        connection.offer(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    // Keeps proxies from closing idle streams and detects clients that went away
+    @Scheduled(fixedRateString = "${appraxis.events.heartbeat-interval}")
+    public void heartbeat() {
+        Set<DataWithMediaType> keepAlive = SseEmitter.event().comment("keep-alive").build();
+        connections.forEach(connection -> connection.offer(keepAlive));
+    }
+
+    // Runs before the web server stops, whose graceful shutdown would otherwise wait on open streams
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        connections.forEach(connection -> connection.emitter.complete());
+        connections.clear();
+    }
+
+    @TransactionalEventListener
+    public void onPmAssigned(PmAssignedEvent event) {
+        send(Role.PROJECT_MANAGER, List.of(event.getPmId()), "review-assigned", event.getCycleId());
+        sendToEmployee(event.getCycleId());
+    }
+
+    @TransactionalEventListener
+    public void onRatingsSubmitted(RatingsSubmittedEvent event) {
+        Long cycleId = event.getCycleId();
+        if (event.getSource() == RatingsSubmittedEvent.Source.SELF_ASSESSMENT) {
+            sendToReviewers(cycleId, "self-assessment-submitted");
+        } else {
+            sendToReviewers(cycleId, "review-submitted");
+            send(Role.BOSS, null, "review-submitted", cycleId);
+        }
+        sendToEmployee(cycleId);
+    }
+
+    @TransactionalEventListener
+    public void onClarificationSubmitted(ClarificationSubmittedEvent event) {
+        sendToReviewers(event.getCycleId(), "clarification-submitted");
+        send(Role.BOSS, null, "clarification-submitted", event.getCycleId());
+    }
+
+    @TransactionalEventListener
+    public void onCycleClosed(CycleClosedEvent event) {
+        send(Role.BOSS, null, "cycle-closed", event.getCycleId());
+        sendToReviewers(event.getCycleId(), "cycle-closed");
+        sendToEmployee(event.getCycleId());
+    }
+
+    // Recipient lookups only run while someone with the role is connected
+    private void sendToEmployee(Long cycleId) {
+        if (hasConnections(Role.EMPLOYEE)) {
+            appraisalRepository.findEmployeeIdById(cycleId)
+                    .ifPresent(employeeId -> send(Role.EMPLOYEE, List.of(employeeId), "cycle-updated", cycleId));
+        }
+    }
+
+    private void sendToReviewers(Long cycleId, String type) {
+        if (hasConnections(Role.PROJECT_MANAGER)) {
+            send(Role.PROJECT_MANAGER, pmReviewRepository.findReviewerIdsByCycleId(cycleId), type, cycleId);
+        }
+    }
+
+    private boolean hasConnections(Role role) {
+        return connections.stream().anyMatch(connection -> connection.role == role);
+    }
+
+    // A null userIds sends to everyone connected with the role
+    private void send(Role role, Collection<Long> userIds, String type, Long cycleId) {
+        Set<DataWithMediaType> event = null;
+        for (Connection connection : connections) {
+            if (connection.role != role || (userIds != null && !userIds.contains(connection.userId))) {
+                continue;
+            }
+            if (event == null) {
+                event = SseEmitter.event()
+                        .name(type)
+                        .data(new DashboardEventDto(type, cycleId), MediaType.APPLICATION_JSON)
+                        .build();
+            }
+            connection.offer(event);
+        }
+    }
+
+    private final class Connection {
+        private final Role role;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Connection(Role role, Long userId, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> buffer) {
+            this.role = role;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private void offer(Set<DataWithMediaType> event) {
+            if (!buffer.offer(event)) {
+                overflows.increment();
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                overflows.increment();
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event offered between the last poll and releasing the flag
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            connections.remove(this);
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -1,42 +1,55 @@
 package dev.thalha.appraxis.service;
 
+import dev.thalha.appraxis.dto.AppraisalSummaryDto;
 import dev.thalha.appraxis.dto.ClarificationRequestDto;
+import dev.thalha.appraxis.dto.CursorPageDto;
+import dev.thalha.appraxis.dto.CycleVersionDto;
 import dev.thalha.appraxis.dto.FeedbackViewDto;
 import dev.thalha.appraxis.dto.RatingSubmissionDto;
 import dev.thalha.appraxis.dto.ReportDto;
+import dev.thalha.appraxis.event.ClarificationSubmittedEvent;
+import dev.thalha.appraxis.event.RatingsSubmittedEvent;
 import dev.thalha.appraxis.model.*;
 import dev.thalha.appraxis.repository.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Service
 public class EmployeeService {
 
     private final AppraisalRepository appraisalRepository;
-    private final PmReviewRepository pmReviewRepository;
     private final PmRatingRepository pmRatingRepository;
     private final SelfAssessmentRepository selfAssessmentRepository;
-    private final QuestionRepository questionRepository;
+    private final SubmissionValidator submissionValidator;
     private final ClarificationRepository clarificationRepository;
+    private final ReportSnapshotService reportSnapshotService;
+    private final FeedbackAssembler feedbackAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CycleViewCache cycleViewCache;
 
     public EmployeeService(AppraisalRepository appraisalRepository, 
-                           PmReviewRepository pmReviewRepository, 
                            PmRatingRepository pmRatingRepository, 
                            SelfAssessmentRepository selfAssessmentRepository, 
-                           QuestionRepository questionRepository,
-                           ClarificationRepository clarificationRepository) {
+                           SubmissionValidator submissionValidator,
+                           ClarificationRepository clarificationRepository,
+                           ReportSnapshotService reportSnapshotService,
+                           FeedbackAssembler feedbackAssembler,
+                           ApplicationEventPublisher eventPublisher,
+                           CycleViewCache cycleViewCache) {
         this.appraisalRepository = appraisalRepository;
-        this.pmReviewRepository = pmReviewRepository;
         this.pmRatingRepository = pmRatingRepository;
         this.selfAssessmentRepository = selfAssessmentRepository;
-        this.questionRepository = questionRepository;
+        this.submissionValidator = submissionValidator;
         this.clarificationRepository = clarificationRepository;
+        this.reportSnapshotService = reportSnapshotService;
+        this.feedbackAssembler = feedbackAssembler;
+        this.eventPublisher = eventPublisher;
+        this.cycleViewCache = cycleViewCache;
     }
 
     public AppraisalCycle getActiveCycle(User employee) {
@@ -45,51 +58,14 @@ public class EmployeeService {
                 .orElse(null);
     }
 
-    public List<AppraisalCycle> getAllCycles(User employee) {
-        return appraisalRepository.findByEmployeeOrderByYearDesc(employee);
+    public CursorPageDto<AppraisalSummaryDto> getAllCycles(User employee, Long cursor, int size) {
+        int pageSize = CursorPageDto.clampSize(size);
+        List<AppraisalSummaryDto> rows = appraisalRepository.findSummariesByEmployee(employee.getId(), cursor, Limit.of(pageSize + 1));
+        return CursorPageDto.fromRows(rows, pageSize, AppraisalSummaryDto::getId, null);
     }
 
     public List<ReportDto> getReport(Long cycleId) {
-        AppraisalCycle cycle = appraisalRepository.findById(cycleId)
-                .orElseThrow(() -> new RuntimeException("Cycle not found"));
-
-        // Get Self Assessments
-        List<SelfAssessment> selfAssessments = selfAssessmentRepository.findByAppraisalCycle(cycle);
-        Map<Long, Integer> selfRatingsMap = new HashMap<>();
-        for (SelfAssessment sa : selfAssessments) {
-            selfRatingsMap.put(sa.getQuestion().getId(), sa.getRating());
-        }
-
-        // Get PM Ratings
-        List<PmReview> allReviews = pmReviewRepository.findAll(); 
-        List<PmReview> cycleReviews = allReviews.stream()
-                .filter(r -> r.getAppraisalCycle().getId().equals(cycleId) && r.getStatus() == ReviewStatus.SUBMITTED)
-                .toList();
-
-        Map<Long, List<Integer>> pmRatingsMap = new HashMap<>();
-        for (PmReview review : cycleReviews) {
-            List<PmRating> ratings = pmRatingRepository.findAll().stream()
-                    .filter(r -> r.getPmReview().getId().equals(review.getId()))
-                    .toList();
-            
-            for (PmRating r : ratings) {
-                pmRatingsMap.computeIfAbsent(r.getQuestion().getId(), k -> new ArrayList<>()).add(r.getRating());
-            }
-        }
-
-        List<Question> questions = questionRepository.findAll();
-        List<ReportDto> report = new ArrayList<>();
-
-        for (Question q : questions) {
-            Integer selfRating = selfRatingsMap.get(q.getId());
-            
-            List<Integer> pmSpecificRatings = pmRatingsMap.getOrDefault(q.getId(), new ArrayList<>());
-            Double avg = pmSpecificRatings.stream().mapToInt(Integer::intValue).average().orElse(0.0);
-            
-            report.add(new ReportDto(q.getText(), q.getCategory(), avg, selfRating));
-        }
-
-        return report;
+        return cycleViewCache.report(cycleId, () -> reportSnapshotService.getSnapshot(cycleId).getQuestions());
     }
 
     @Transactional
@@ -112,54 +88,29 @@ public class EmployeeService {
             throw new RuntimeException("Cannot submit self-assessment for a closed appraisal");
         }
 
-        for (RatingSubmissionDto dto : submissions) {
-            Question question = questionRepository.findById(dto.getQuestionId())
-                    .orElseThrow(() -> new RuntimeException("Question not found"));
-
-            SelfAssessment assessment = new SelfAssessment();
-            assessment.setAppraisalCycle(cycle);
-            assessment.setQuestion(question);
-            assessment.setRating(dto.getRating());
-            assessment.setComment(dto.getComment());
-
-            selfAssessmentRepository.save(assessment);
-        }
+        submissionValidator.validate(
+                submissions.stream().map(RatingSubmissionDto::getQuestionId).toList(),
+                submissions.stream().map(RatingSubmissionDto::getRating).toList());
+        selfAssessmentRepository.insertSelfAssessments(cycleId, submissions);
 
         // Mark self-assessment as submitted
         cycle.setSelfAssessmentSubmitted(true);
         appraisalRepository.save(cycle);
+
+        reportSnapshotService.refresh(cycleId);
+        eventPublisher.publishEvent(new RatingsSubmittedEvent(cycleId, cycle.getYear(), RatingsSubmittedEvent.Source.SELF_ASSESSMENT));
     }
-    public List<FeedbackViewDto> getFeedback(Long cycleId) {
-        AppraisalCycle cycle = appraisalRepository.findById(cycleId)
+    public CycleVersionDto getCycleVersion(Long cycleId) {
+        return appraisalRepository.findVersionById(cycleId)
                 .orElseThrow(() -> new RuntimeException("Cycle not found"));
+    }
 
-        List<PmReview> reviews = pmReviewRepository.findAll().stream()
-                .filter(r -> r.getAppraisalCycle().getId().equals(cycleId) && r.getStatus() == ReviewStatus.SUBMITTED)
-                .toList();
-
-        List<FeedbackViewDto> feedbacks = new ArrayList<>();
-
-        for (PmReview review : reviews) {
-            List<PmRating> ratings = pmRatingRepository.findAll().stream()
-                    .filter(r -> r.getPmReview().getId().equals(review.getId()))
-                    .toList();
-
-            for (PmRating rating : ratings) {
-                String clarification = clarificationRepository.findByPmRating(rating)
-                        .map(Clarification::getEmployeeReply)
-                        .orElse(null);
-
-                feedbacks.add(new FeedbackViewDto(
-                        rating.getId(),
-                        rating.getQuestion().getText(),
-                        review.getReviewer().getName(),
-                        rating.getRating(),
-                        rating.getComment() != null ? rating.getComment() : "",
-                        clarification
-                ));
-            }
+    public List<FeedbackViewDto> getFeedback(Long cycleId) {
+        if (!appraisalRepository.existsById(cycleId)) {
+            throw new RuntimeException("Cycle not found");
         }
-        return feedbacks;
+
+        return feedbackAssembler.forCycle(cycleId);
     }
 
     @Transactional
@@ -171,6 +122,14 @@ public class EmployeeService {
             throw new RuntimeException("Clarification already submitted");
         }
 
+        // Closed cycles are served as immutable, so their feedback must not change
+        AppraisalCycle cycle = rating.getPmReview().getAppraisalCycle();
+        if (cycle.getStatus() == AppraisalStatus.CLOSED) {
+            throw new RuntimeException("Cannot submit clarification for a closed appraisal");
+        }
+        appraisalRepository.bumpVersion(cycle);
+        eventPublisher.publishEvent(new ClarificationSubmittedEvent(cycle.getId()));
+
         Clarification clarification = new Clarification();
         clarification.setPmRating(rating);
         clarification.setEmployeeReply(request.getReplyText());
@@ -0,0 +1,32 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.dto.FeedbackViewDto;
+import dev.thalha.appraxis.model.ReviewStatus;
+import dev.thalha.appraxis.repository.PmRatingRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Builds feedback views shared by the employee, PM and boss screens. Ratings, questions,
+ * reviewer names and clarification replies come back from a single join, so the number of
+ * statements does not depend on how many ratings a cycle or review has.
+ */
+@Component
+public class FeedbackAssembler {
+
+    private final PmRatingRepository pmRatingRepository;
+
+    public FeedbackAssembler(PmRatingRepository pmRatingRepository) {
+        this.pmRatingRepository = pmRatingRepository;
+    }
+
+    // Ratings from every submitted review of the cycle
+    public List<FeedbackViewDto> forCycle(Long cycleId) {
+        return pmRatingRepository.findFeedbackByCycle(cycleId, ReviewStatus.SUBMITTED);
+    }
+
+    public List<FeedbackViewDto> forReview(Long reviewId) {
+        return pmRatingRepository.findFeedbackByReview(reviewId);
+    }
+}
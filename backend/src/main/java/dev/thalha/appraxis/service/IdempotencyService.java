@@ -0,0 +1,125 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.model.IdempotencyKey;
+import dev.thalha.appraxis.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Runs workflow submissions at most once per Idempotency-Key. The key is claimed in the
+ * submission's transaction: a retry of a committed submission finds it taken and is answered
+ * as the original was, and a retry racing the original waits for it on the key's row lock.
+ * A submission that fails releases its key with the rollback, so it can be retried.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final Duration retention;
+    private final Counter replays;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              PlatformTransactionManager transactionManager,
+                              JsonMapper jsonMapper,
+                              MeterRegistry registry,
+                              @Value("${appraxis.idempotency.retention}") Duration retention) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = jsonMapper;
+        this.retention = retention;
+        this.replays = Counter.builder("appraxis.idempotency.replays").register(registry);
+    }
+
+    /**
+     * Runs the submission, or skips it when the user already committed one with this key.
+     * Requests without a key always run.
+     */
+    public void submit(Long userId, String key, String operation, Object request, Runnable submission) {
+        submit(userId, key, operation, request, Void.class, () -> {
+            submission.run();
+            return null;
+        });
+    }
+
+    /**
+     * Like {@link #submit(Long, String, String, Object, Runnable)} for submissions that return a
+     * result: the result is stored with the key, and a retry gets the stored result back.
+     */
+    public <T> T submit(Long userId, String key, String operation, Object request,
+                        Class<T> responseType, Supplier<T> submission) {
+        if (key == null || key.isBlank()) {
+            return submission.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String digest = digest(operation, request);
+        Claim<T> claim = transactionTemplate.execute(status -> {
+            if (!idempotencyKeyRepository.claim(userId, key, digest)) {
+                return new Claim<T>(false, null);
+            }
+            T response = submission.get();
+            if (response != null) {
+                idempotencyKeyRepository.recordResponse(userId, key, jsonMapper.writeValueAsString(response));
+            }
+            return new Claim<>(true, response);
+        });
+        if (claim.claimed()) {
+            return claim.response();
+        }
+
+        IdempotencyKey original = idempotencyKeyRepository.findById(new IdempotencyKey.Pk(userId, key))
+                // Only if the key expired in between
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT, "Idempotency-Key has expired"));
+        if (!original.getRequestDigest().equals(digest)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_CONTENT,
+                    "Idempotency-Key was already used for a different request");
+        }
+        replays.increment();
+        return original.getResponseBody() == null
+                ? null
+                : jsonMapper.readValue(original.getResponseBody(), responseType);
+    }
+
+    @Scheduled(fixedRateString = "${appraxis.idempotency.purge-interval}")
+    public void purgeExpired() {
+        idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private record Claim<T>(boolean claimed, T response) {
+    }
+
+    private String digest(String operation, Object request) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] json = jsonMapper.writeValueAsBytes(List.of(operation, request));
+            return HexFormat.of().formatHex(sha256.digest(json));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
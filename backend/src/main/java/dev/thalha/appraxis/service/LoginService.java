@@ -0,0 +1,95 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies login credentials on the bounded login executor, so password hashing cannot take
+ * the request threads and cores the rest of the API needs. When the executor's queue is full
+ * the login is refused at once with {@link TaskRejectedException}.
+ *
+ * Publishes appraxis.login{outcome=success|failure|rejected|error}, the whole login as the
+ * caller sees it, and appraxis.login.queue, the time spent waiting for a login thread. failure
+ * is a bad username or password; error is any other exception thrown while authenticating.
+ */
+@Service
+public class LoginService {
+
+    private final AuthenticationManager authenticationManager;
+    private final AsyncTaskExecutor loginExecutor;
+    private final MeterRegistry registry;
+    private final Timer queueWait;
+    private final Duration retryAfter;
+
+    public LoginService(AuthenticationManager authenticationManager,
+                        @Qualifier("loginExecutor") AsyncTaskExecutor loginExecutor,
+                        MeterRegistry registry,
+                        @Value("${appraxis.login.retry-after}") Duration retryAfter) {
+        this.authenticationManager = authenticationManager;
+        this.loginExecutor = loginExecutor;
+        this.registry = registry;
+        this.queueWait = Timer.builder("appraxis.login.queue")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.retryAfter = retryAfter;
+    }
+
+    public User authenticate(String username, String password) {
+        Timer.Sample sample = Timer.start(registry);
+        long submittedAt = System.nanoTime();
+        Future<User> result;
+        try {
+            result = loginExecutor.submit(() -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return (User) authenticationManager
+                        .authenticate(new UsernamePasswordAuthenticationToken(username, password))
+                        .getPrincipal();
+            });
+        } catch (TaskRejectedException e) {
+            sample.stop(timer("rejected"));
+            throw e;
+        }
+
+        try {
+            User user = result.get();
+            sample.stop(timer("success"));
+            return user;
+        } catch (ExecutionException e) {
+            sample.stop(timer(e.getCause() instanceof AuthenticationException ? "failure" : "error"));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Login failed", e.getCause());
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while logging in", e);
+        }
+    }
+
+    // Suggested wait for a client whose login was refused
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder("appraxis.login")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -1,14 +1,18 @@
 package dev.thalha.appraxis.service;
 
+import dev.thalha.appraxis.dto.CursorPageDto;
 import dev.thalha.appraxis.dto.FeedbackViewDto;
 import dev.thalha.appraxis.dto.PmRatingDto;
+import dev.thalha.appraxis.dto.PmReviewSummaryDto;
+import dev.thalha.appraxis.event.RatingsSubmittedEvent;
 import dev.thalha.appraxis.model.*;
 import dev.thalha.appraxis.repository.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -18,52 +22,47 @@ public class PmReviewService {
     private final PmRatingRepository pmRatingRepository;
     private final QuestionRepository questionRepository;
     private final AppraisalRepository appraisalRepository;
-    private final ClarificationRepository clarificationRepository;
+    private final ReportSnapshotService reportSnapshotService;
+    private final FeedbackAssembler feedbackAssembler;
+    private final SubmissionValidator submissionValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewerCalibrationService reviewerCalibrationService;
 
     public PmReviewService(PmReviewRepository pmReviewRepository, PmRatingRepository pmRatingRepository, 
                            QuestionRepository questionRepository, AppraisalRepository appraisalRepository,
-                           ClarificationRepository clarificationRepository) {
+                           ReportSnapshotService reportSnapshotService,
+                           FeedbackAssembler feedbackAssembler,
+                           SubmissionValidator submissionValidator,
+                           ApplicationEventPublisher eventPublisher,
+                           ReviewerCalibrationService reviewerCalibrationService) {
         this.pmReviewRepository = pmReviewRepository;
         this.pmRatingRepository = pmRatingRepository;
         this.questionRepository = questionRepository;
         this.appraisalRepository = appraisalRepository;
-        this.clarificationRepository = clarificationRepository;
+        this.reportSnapshotService = reportSnapshotService;
+        this.feedbackAssembler = feedbackAssembler;
+        this.submissionValidator = submissionValidator;
+        this.eventPublisher = eventPublisher;
+        this.reviewerCalibrationService = reviewerCalibrationService;
     }
 
     public List<PmReview> getPendingReviews(User reviewer) {
         return pmReviewRepository.findByReviewerAndStatus(reviewer, ReviewStatus.PENDING);
     }
 
-    public List<PmReview> getSubmittedReviews(User reviewer) {
-        return pmReviewRepository.findByReviewerAndStatus(reviewer, ReviewStatus.SUBMITTED);
+    public CursorPageDto<PmReviewSummaryDto> getSubmittedReviews(User reviewer, Long cursor, int size) {
+        int pageSize = CursorPageDto.clampSize(size);
+        List<PmReviewSummaryDto> rows = pmReviewRepository.findSummariesByReviewer(
+                reviewer.getId(), ReviewStatus.SUBMITTED, cursor, Limit.of(pageSize + 1));
+        return CursorPageDto.fromRows(rows, pageSize, PmReviewSummaryDto::getId, null);
     }
 
     public List<FeedbackViewDto> getReviewWithClarifications(Long reviewId) {
-        PmReview review = pmReviewRepository.findById(reviewId)
-                .orElseThrow(() -> new RuntimeException("Review not found"));
-
-        List<PmRating> ratings = pmRatingRepository.findAll().stream()
-                .filter(r -> r.getPmReview().getId().equals(reviewId))
-                .toList();
-
-        List<FeedbackViewDto> feedbacks = new ArrayList<>();
-
-        for (PmRating rating : ratings) {
-            String clarification = clarificationRepository.findByPmRating(rating)
-                    .map(Clarification::getEmployeeReply)
-                    .orElse(null);
-
-            feedbacks.add(new FeedbackViewDto(
-                    rating.getId(),
-                    rating.getQuestion().getText(),
-                    review.getReviewer().getName(),
-                    rating.getRating(),
-                    rating.getComment() != null ? rating.getComment() : "",
-                    clarification
-            ));
+        if (!pmReviewRepository.existsById(reviewId)) {
+            throw new RuntimeException("Review not found");
         }
 
-        return feedbacks;
+        return feedbackAssembler.forReview(reviewId);
     }
 
     public List<Question> getActiveQuestions() {
@@ -79,26 +78,29 @@ public class PmReviewService {
             throw new RuntimeException("Review is already submitted");
         }
 
-        for (PmRatingDto dto : ratings) {
-            Question question = questionRepository.findById(dto.getQuestionId())
-                    .orElseThrow(() -> new RuntimeException("Question not found"));
-
-            PmRating rating = new PmRating();
-            rating.setPmReview(review);
-            rating.setQuestion(question);
-            rating.setRating(dto.getRating());
-            rating.setComment(dto.getComment());
-
-            pmRatingRepository.save(rating);
+        if (review.getAppraisalCycle().getStatus() == AppraisalStatus.CLOSED) {
+            throw new RuntimeException("Cannot submit a review for a closed appraisal");
         }
 
+        submissionValidator.validate(
+                ratings.stream().map(PmRatingDto::getQuestionId).toList(),
+                ratings.stream().map(PmRatingDto::getRating).toList());
+        pmRatingRepository.insertPmRatings(reviewId, ratings);
+        reviewerCalibrationService.recordReview(
+                review.getReviewer().getId(),
+                ratings.stream().map(PmRatingDto::getRating).toList());
+
         review.setStatus(ReviewStatus.SUBMITTED);
         review.setFeedbackDate(LocalDateTime.now());
         pmReviewRepository.save(review);
 
-        // Update appraisal cycle status to PENDING_BOSS_REVIEW
+        // Update appraisal cycle status to PENDING_BOSS_REVIEW, bumping its version even if the status is unchanged
         AppraisalCycle cycle = review.getAppraisalCycle();
         cycle.setStatus(AppraisalStatus.PENDING_BOSS_REVIEW);
+        appraisalRepository.bumpVersion(cycle);
         appraisalRepository.save(cycle);
+
+        reportSnapshotService.refresh(cycle.getId());
+        eventPublisher.publishEvent(new RatingsSubmittedEvent(cycle.getId(), cycle.getYear(), RatingsSubmittedEvent.Source.PM_REVIEW));
     }
 }
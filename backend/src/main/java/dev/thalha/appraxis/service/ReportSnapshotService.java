@@ -0,0 +1,133 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.dto.CategoryRollupDto;
+import dev.thalha.appraxis.dto.ReportDto;
+import dev.thalha.appraxis.dto.ReportSnapshotDto;
+import dev.thalha.appraxis.model.ReportSnapshot;
+import dev.thalha.appraxis.model.ReviewStatus;
+import dev.thalha.appraxis.repository.AppraisalRepository;
+import dev.thalha.appraxis.repository.PmRatingRepository;
+import dev.thalha.appraxis.repository.ReportSnapshotRepository;
+import dev.thalha.appraxis.repository.ReviewerStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a persisted copy of each cycle's report so that reads are a primary-key lookup.
+ * Snapshots are rebuilt inside the transactions that change report inputs (self-assessment
+ * and PM review submission) and frozen when the cycle is closed.
+ *
+ * Calibrated scores are point-in-time figures: they are computed against the reviewers' stats
+ * when the snapshot is built, and those stats are stored with it. Later reviews by the same PM
+ * do not change them, so compare calibrated scores across cycles together with their baselines.
+ */
+@Service
+public class ReportSnapshotService {
+
+    private final ReportSnapshotRepository reportSnapshotRepository;
+    private final PmRatingRepository pmRatingRepository;
+    private final ReviewerStatsRepository reviewerStatsRepository;
+    private final AppraisalRepository appraisalRepository;
+    private final JsonMapper jsonMapper;
+
+    public ReportSnapshotService(ReportSnapshotRepository reportSnapshotRepository,
+                                 PmRatingRepository pmRatingRepository,
+                                 ReviewerStatsRepository reviewerStatsRepository,
+                                 AppraisalRepository appraisalRepository,
+                                 JsonMapper jsonMapper) {
+        this.reportSnapshotRepository = reportSnapshotRepository;
+        this.pmRatingRepository = pmRatingRepository;
+        this.reviewerStatsRepository = reviewerStatsRepository;
+        this.appraisalRepository = appraisalRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public ReportSnapshotDto getSnapshot(Long cycleId) {
+        return reportSnapshotRepository.findById(cycleId)
+                .map(this::read)
+                .orElseGet(() -> {
+                    // Nothing submitted yet (or a cycle older than snapshots): compute without persisting
+                    if (!appraisalRepository.existsById(cycleId)) {
+                        throw new RuntimeException("Cycle not found");
+                    }
+                    return compute(cycleId);
+                });
+    }
+
+    @Transactional
+    public void refresh(Long cycleId) {
+        ReportSnapshot snapshot = reportSnapshotRepository.findById(cycleId)
+                .orElseGet(() -> {
+                    ReportSnapshot created = new ReportSnapshot();
+                    created.setCycleId(cycleId);
+                    return created;
+                });
+
+        if (snapshot.isFrozen()) {
+            return;
+        }
+
+        snapshot.setPayload(jsonMapper.writeValueAsString(compute(cycleId)));
+        snapshot.setGeneratedAt(LocalDateTime.now());
+        reportSnapshotRepository.save(snapshot);
+    }
+
+    @Transactional
+    public void freeze(Long cycleId) {
+        refresh(cycleId);
+        reportSnapshotRepository.findById(cycleId).ifPresent(snapshot -> {
+            snapshot.setFrozen(true);
+            reportSnapshotRepository.save(snapshot);
+        });
+    }
+
+    private ReportSnapshotDto compute(Long cycleId) {
+        // Same transaction as the aggregate, so the baselines are the stats the scores used
+        List<ReportDto> questions = pmRatingRepository.aggregateReport(cycleId, ReviewStatus.SUBMITTED);
+        return new ReportSnapshotDto(questions, rollupByCategory(questions),
+                reviewerStatsRepository.findBaselinesForCycle(cycleId, ReviewStatus.SUBMITTED));
+    }
+
+    private List<CategoryRollupDto> rollupByCategory(List<ReportDto> questions) {
+        Map<String, List<ReportDto>> byCategory = new LinkedHashMap<>();
+        for (ReportDto q : questions) {
+            byCategory.computeIfAbsent(q.getCategory(), k -> new ArrayList<>()).add(q);
+        }
+
+        List<CategoryRollupDto> rollups = new ArrayList<>();
+        for (Map.Entry<String, List<ReportDto>> entry : byCategory.entrySet()) {
+            long pmCount = 0;
+            double pmSum = 0;
+            int selfCount = 0;
+            double selfSum = 0;
+            for (ReportDto q : entry.getValue()) {
+                // Weight each question's average by its rating count so the rollup is the mean of all ratings
+                pmCount += q.getPmRatingCount();
+                pmSum += q.getPmAverageRating() * q.getPmRatingCount();
+                if (q.getSelfRating() != null) {
+                    selfCount++;
+                    selfSum += q.getSelfRating();
+                }
+            }
+            rollups.add(new CategoryRollupDto(
+                    entry.getKey(),
+                    pmCount > 0 ? pmSum / pmCount : 0.0,
+                    selfCount > 0 ? selfSum / selfCount : null,
+                    pmCount,
+                    entry.getValue().size()
+            ));
+        }
+        return rollups;
+    }
+
+    private ReportSnapshotDto read(ReportSnapshot snapshot) {
+        return jsonMapper.readValue(snapshot.getPayload(), ReportSnapshotDto.class);
+    }
+}
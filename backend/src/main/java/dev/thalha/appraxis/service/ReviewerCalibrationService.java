@@ -0,0 +1,76 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.dto.ReviewerRatingTotalsDto;
+import dev.thalha.appraxis.model.ReviewStatus;
+import dev.thalha.appraxis.model.ReviewerStats;
+import dev.thalha.appraxis.repository.ReviewerStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Maintains each PM's running rating mean and variance. A submitted review is folded in
+ * as one batch (Chan et al.'s parallel form of Welford's update), so reports can z-score a
+ * rating against its reviewer without reading the reviewer's history.
+ */
+@Service
+public class ReviewerCalibrationService {
+
+    private final ReviewerStatsRepository reviewerStatsRepository;
+
+    public ReviewerCalibrationService(ReviewerStatsRepository reviewerStatsRepository) {
+        this.reviewerStatsRepository = reviewerStatsRepository;
+    }
+
+    @Transactional
+    public void recordReview(Long reviewerId, List<Integer> ratings) {
+        if (ratings.isEmpty()) {
+            return;
+        }
+
+        double batchMean = 0;
+        for (int rating : ratings) {
+            batchMean += rating;
+        }
+        batchMean /= ratings.size();
+        double batchM2 = 0;
+        for (int rating : ratings) {
+            batchM2 += (rating - batchMean) * (rating - batchMean);
+        }
+
+        // Row lock serializes concurrent submissions by the same PM
+        reviewerStatsRepository.insertIfAbsent(reviewerId);
+        ReviewerStats stats = reviewerStatsRepository.findForUpdate(reviewerId)
+                .orElseThrow(() -> new RuntimeException("Reviewer stats not found"));
+        merge(stats, ratings.size(), batchMean, batchM2);
+        reviewerStatsRepository.save(stats);
+    }
+
+    /**
+     * Creates stats for reviewers whose reviews predate calibration, from one grouped query.
+     * Returns the number of reviewers seeded.
+     */
+    @Transactional
+    public int seedFromHistory() {
+        List<ReviewerRatingTotalsDto> totals = reviewerStatsRepository.findUnseededTotals(ReviewStatus.SUBMITTED);
+        for (ReviewerRatingTotalsDto total : totals) {
+            long count = total.getCount();
+            double mean = (double) total.getSum() / count;
+            // Exact for integer ratings: sum of squares minus n * mean^2
+            double m2 = Math.max(0, total.getSumOfSquares() - count * mean * mean);
+            reviewerStatsRepository.save(new ReviewerStats(total.getReviewerId(), count, mean, m2, LocalDateTime.now()));
+        }
+        return totals.size();
+    }
+
+    private static void merge(ReviewerStats stats, long batchCount, double batchMean, double batchM2) {
+        long count = stats.getRatingCount() + batchCount;
+        double delta = batchMean - stats.getMean();
+        stats.setMean(stats.getMean() + delta * batchCount / count);
+        stats.setM2(stats.getM2() + batchM2 + delta * delta * stats.getRatingCount() * batchCount / count);
+        stats.setRatingCount(count);
+        stats.setUpdatedAt(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,91 @@
+package dev.thalha.appraxis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache whose concurrent misses for a key share one computation: the first caller
+ * loads on its own thread and later callers wait for its result. Failed loads are not kept.
+ *
+ * Invalidating a key also drops a load still in progress, so a value computed before a
+ * write committed is never stored after that write's eviction.
+ *
+ * Publishes appraxis.cache.requests{cache, result=hit|miss|coalesced} and appraxis.cache.size.
+ */
+public final class SingleFlightCache<K, V> {
+
+    private final Cache<K, CompletableFuture<V>> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public SingleFlightCache(String name, long maxSize, Duration ttl, MeterRegistry registry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hits = requests(registry, name, "hit");
+        this.misses = requests(registry, name, "miss");
+        this.coalesced = requests(registry, name, "coalesced");
+        Gauge.builder("appraxis.cache.size", entries, Cache::estimatedSize)
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = entries.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            (existing.isDone() ? hits : coalesced).increment();
+            return join(existing);
+        }
+
+        misses.increment();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            entries.asMap().remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    private static Counter requests(MeterRegistry registry, String name, String result) {
+        return Counter.builder("appraxis.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
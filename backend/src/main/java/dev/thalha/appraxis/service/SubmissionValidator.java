@@ -0,0 +1,58 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.model.Question;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Checks a rating form against the question catalog with a single lookup, so nothing is
+ * written unless every answer refers to a distinct, active question.
+ */
+@Component
+public class SubmissionValidator {
+
+    private final QuestionRepository questionRepository;
+
+    public SubmissionValidator(QuestionRepository questionRepository) {
+        this.questionRepository = questionRepository;
+    }
+
+    public void validate(List<Long> questionIds, List<Integer> ratings) {
+        if (questionIds.isEmpty()) {
+            throw new RuntimeException("At least one rating is required");
+        }
+
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < questionIds.size(); i++) {
+            Long questionId = questionIds.get(i);
+            if (questionId == null) {
+                throw new RuntimeException("Question id is required");
+            }
+            if (!seen.add(questionId)) {
+                throw new RuntimeException("Duplicate rating for question " + questionId);
+            }
+            if (ratings.get(i) == null) {
+                throw new RuntimeException("Rating is required for question " + questionId);
+            }
+        }
+
+        Map<Long, Question> questions = questionRepository.findAllById(seen).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+        for (Long questionId : questionIds) {
+            Question question = questions.get(questionId);
+            if (question == null) {
+                throw new RuntimeException("Question not found: " + questionId);
+            }
+            if (!question.isActive()) {
+                throw new RuntimeException("Question " + questionId + " is no longer active");
+            }
+        }
+    }
+}
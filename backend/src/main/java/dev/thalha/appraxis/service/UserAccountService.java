@@ -0,0 +1,81 @@
+package dev.thalha.appraxis.service;
+
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.PrincipalCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Credential and role changes. Every change bumps the user's security version so tokens
+ * issued before it stop authenticating, and evicts the cached version once committed.
+ */
+@Service
+public class UserAccountService implements UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+
+    public UserAccountService(UserRepository userRepository, PasswordEncoder passwordEncoder, PrincipalCache principalCache) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+    }
+
+    @Transactional
+    public void changePassword(Long userId, String rawPassword) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        user.setPassword(passwordEncoder.encode(rawPassword));
+        revokeIssuedTokens(user);
+    }
+
+    /**
+     * Stores a re-encoded hash of the password the user just logged in with. The password itself
+     * is unchanged, so issued tokens stay valid. The managed entity is updated so that only this
+     * user's cache entry changes.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails principal, String encodedPassword) {
+        User user = userRepository.findById(((User) principal).getId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        user.setPassword(encodedPassword);
+        return user;
+    }
+
+    @Transactional
+    public void updateRoles(Long userId, Set<Role> roles) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        user.setRoles(new HashSet<>(roles));
+        revokeIssuedTokens(user);
+    }
+
+    private void revokeIssuedTokens(User user) {
+        user.setSecurityVersion(user.getSecurityVersion() + 1);
+        userRepository.save(user);
+
+        // Evicting before commit would let a concurrent request re-cache the old version
+        Long userId = user.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                principalCache.evict(userId);
+            }
+        });
+    }
+}
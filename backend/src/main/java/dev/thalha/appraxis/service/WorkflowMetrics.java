@@ -0,0 +1,80 @@
+package dev.thalha.appraxis.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import dev.thalha.appraxis.dto.StatusCountDto;
+import dev.thalha.appraxis.event.CycleClosedEvent;
+import dev.thalha.appraxis.event.RatingsSubmittedEvent;
+import dev.thalha.appraxis.model.AppraisalStatus;
+import dev.thalha.appraxis.repository.AppraisalRepository;
+import dev.thalha.appraxis.repository.ClarificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Domain meters for the appraisal workflow: cycles per status, committed submissions and
+ * clarifications per closed cycle. Status gauges share one grouped count that is reused for
+ * the configured interval, so a scrape costs at most one query.
+ */
+@Component
+public class WorkflowMetrics {
+
+    private final ClarificationRepository clarificationRepository;
+    private final LoadingCache<Boolean, Map<AppraisalStatus, Long>> statusCounts;
+    private final Map<RatingsSubmittedEvent.Source, Counter> submissions = new EnumMap<>(RatingsSubmittedEvent.Source.class);
+    private final DistributionSummary clarificationsPerCycle;
+
+    public WorkflowMetrics(MeterRegistry registry,
+                           AppraisalRepository appraisalRepository,
+                           ClarificationRepository clarificationRepository,
+                           @Value("${appraxis.metrics.status-counts.ttl}") Duration statusCountsTtl) {
+        this.clarificationRepository = clarificationRepository;
+        this.statusCounts = Caffeine.newBuilder()
+                .expireAfterWrite(statusCountsTtl)
+                .build(key -> {
+                    Map<AppraisalStatus, Long> counts = new EnumMap<>(AppraisalStatus.class);
+                    for (StatusCountDto row : appraisalRepository.countByStatus()) {
+                        counts.put(row.getStatus(), row.getCount());
+                    }
+                    return counts;
+                });
+
+        for (AppraisalStatus status : AppraisalStatus.values()) {
+            Gauge.builder("appraxis.cycles", this, metrics -> metrics.statusCounts.get(Boolean.TRUE).getOrDefault(status, 0L))
+                    .description("Appraisal cycles currently in each status")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        for (RatingsSubmittedEvent.Source source : RatingsSubmittedEvent.Source.values()) {
+            submissions.put(source, Counter.builder("appraxis.submissions")
+                    .description("Committed self-assessments and PM reviews")
+                    .tag("type", source.name().toLowerCase())
+                    .register(registry));
+        }
+        this.clarificationsPerCycle = DistributionSummary.builder("appraxis.cycle.clarifications")
+                .description("Clarifications raised on a cycle, recorded when it closes")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @TransactionalEventListener
+    public void onRatingsSubmitted(RatingsSubmittedEvent event) {
+        submissions.get(event.getSource()).increment();
+        statusCounts.invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void onCycleClosed(CycleClosedEvent event) {
+        clarificationsPerCycle.record(clarificationRepository.countByCycleId(event.getCycleId()));
+        statusCounts.invalidateAll();
+    }
+}
@@ -0,0 +1,87 @@
+-- Schema as previously created by Hibernate (ddl-auto=update) from the original entities,
+-- with named constraints. Databases created that way are baselined at this version and skip
+-- it; new databases start here. Keep it identical to that schema: anything added since
+-- belongs in a later migration, or baselined databases never get it.
+
+create table users (
+    id bigint not null auto_increment,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    name varchar(255) not null,
+    email varchar(255) not null,
+    designation varchar(255),
+    primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+) engine=InnoDB;
+
+create table user_roles (
+    user_id bigint not null,
+    role enum ('BOSS','EMPLOYEE','HR','PROJECT_MANAGER'),
+    constraint fk_user_roles_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+create table questions (
+    id bigint not null auto_increment,
+    text varchar(255) not null,
+    category varchar(255) not null,
+    active bit not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table appraisal_cycles (
+    id bigint not null auto_increment,
+    employee_id bigint not null,
+    hr_initiator_id bigint not null,
+    year varchar(255) not null,
+    status enum ('CLOSED','OPEN','PENDING_BOSS_REVIEW','PENDING_PM_REVIEW') not null,
+    start_date date not null,
+    self_assessment_submitted bit not null,
+    boss_comment text,
+    primary key (id),
+    constraint fk_appraisal_cycles_employee foreign key (employee_id) references users (id),
+    constraint fk_appraisal_cycles_hr_initiator foreign key (hr_initiator_id) references users (id)
+) engine=InnoDB;
+
+create table self_assessments (
+    id bigint not null auto_increment,
+    appraisal_cycle_id bigint not null,
+    question_id bigint not null,
+    rating integer not null,
+    comment text,
+    primary key (id),
+    constraint fk_self_assessments_cycle foreign key (appraisal_cycle_id) references appraisal_cycles (id),
+    constraint fk_self_assessments_question foreign key (question_id) references questions (id)
+) engine=InnoDB;
+
+create table pm_reviews (
+    id bigint not null auto_increment,
+    appraisal_cycle_id bigint not null,
+    reviewer_id bigint not null,
+    status enum ('PENDING','SUBMITTED') not null,
+    feedback_date datetime(6),
+    primary key (id),
+    constraint fk_pm_reviews_cycle foreign key (appraisal_cycle_id) references appraisal_cycles (id),
+    constraint fk_pm_reviews_reviewer foreign key (reviewer_id) references users (id)
+) engine=InnoDB;
+
+create table pm_ratings (
+    id bigint not null auto_increment,
+    pm_review_id bigint not null,
+    question_id bigint not null,
+    rating integer not null,
+    comment text,
+    primary key (id),
+    constraint fk_pm_ratings_review foreign key (pm_review_id) references pm_reviews (id),
+    constraint fk_pm_ratings_question foreign key (question_id) references questions (id)
+) engine=InnoDB;
+
+create table clarifications (
+    id bigint not null auto_increment,
+    pm_rating_id bigint not null,
+    employee_reply text not null,
+    created_at datetime(6),
+    primary key (id),
+    constraint uk_clarifications_pm_rating unique (pm_rating_id),
+    constraint fk_clarifications_pm_rating foreign key (pm_rating_id) references pm_ratings (id)
+) engine=InnoDB;
@@ -0,0 +1,32 @@
+-- Columns and tables the entities gained before the schema moved to Flyway. Databases created
+-- by Hibernate were baselined at V1 without them.
+
+-- Bumped on credential or role changes; tokens carrying an older version are rejected
+alter table users add column security_version integer default 0 not null;
+
+-- When the cycle entered its current status; the boss queue shows how long it has waited.
+-- Cycles from before the column get their start date as the best available approximation.
+alter table appraisal_cycles add column status_updated_at datetime(6);
+update appraisal_cycles set status_updated_at = start_date where status_updated_at is null;
+
+-- Keyset queue over cycles in a status
+create index idx_appraisal_cycles_status on appraisal_cycles (status, id);
+
+-- Persisted report of each cycle; cycles without one are computed on read
+create table report_snapshots (
+    cycle_id bigint not null,
+    payload text not null,
+    generated_at datetime(6) not null,
+    frozen bit not null,
+    primary key (cycle_id)
+) engine=InnoDB;
+
+-- Running rating distribution per PM; seeded from submitted reviews at startup
+create table reviewer_stats (
+    reviewer_id bigint not null,
+    rating_count bigint not null,
+    mean float(53) not null,
+    m2 float(53) not null,
+    updated_at datetime(6),
+    primary key (reviewer_id)
+) engine=InnoDB;
@@ -0,0 +1,63 @@
+-- Indexes matched to the repository queries. Leading columns follow the equality predicates;
+-- trailing columns let the lookups and aggregates be answered from the index alone.
+
+-- Initiation used to check for an existing cycle without a constraint behind it, so a database
+-- baselined at V1 may hold several cycles for one employee and year. Each group is merged into
+-- its furthest-along cycle (lowest id on a tie): the others' self assessments and PM reviews move
+-- across and the others are deleted. V5 then merges any answers or reviews this duplicates.
+create table appraisal_cycle_merge (
+    dropped_id bigint not null,
+    kept_id bigint not null,
+    primary key (dropped_id)
+) engine=InnoDB;
+
+insert into appraisal_cycle_merge (dropped_id, kept_id)
+select c.id,
+       (select k.id from appraisal_cycles k
+        where k.employee_id = c.employee_id and k.year = c.year
+        order by case k.status when 'CLOSED' then 3 when 'PENDING_BOSS_REVIEW' then 2
+                               when 'PENDING_PM_REVIEW' then 1 else 0 end desc, k.id
+        limit 1)
+from appraisal_cycles c
+where exists (select 1 from appraisal_cycles o
+              where o.employee_id = c.employee_id and o.year = c.year and o.id <> c.id);
+delete from appraisal_cycle_merge where dropped_id = kept_id;
+
+update self_assessments
+set appraisal_cycle_id = (select m.kept_id from appraisal_cycle_merge m where m.dropped_id = self_assessments.appraisal_cycle_id)
+where appraisal_cycle_id in (select dropped_id from appraisal_cycle_merge);
+update pm_reviews
+set appraisal_cycle_id = (select m.kept_id from appraisal_cycle_merge m where m.dropped_id = pm_reviews.appraisal_cycle_id)
+where appraisal_cycle_id in (select dropped_id from appraisal_cycle_merge);
+-- The derived table keeps MySQL from reading appraisal_cycles while updating it
+update appraisal_cycles set self_assessment_submitted = true
+where id in (select kept_id from (
+    select m.kept_id from appraisal_cycle_merge m
+    join appraisal_cycles d on d.id = m.dropped_id
+    where d.self_assessment_submitted = true
+    group by m.kept_id) submitted);
+delete from report_snapshots where cycle_id in (select dropped_id from appraisal_cycle_merge);
+delete from appraisal_cycles where id in (select dropped_id from appraisal_cycle_merge);
+drop table appraisal_cycle_merge;
+
+-- findByEmployeeAndYear, findSummariesByEmployee; also one cycle per employee and year
+alter table appraisal_cycles
+    add constraint uk_appraisal_cycles_employee_year unique (employee_id, year);
+
+-- findEmployeeIdsWithCycleInYear, yearly analytics and exports
+create index idx_appraisal_cycles_year on appraisal_cycles (year, employee_id);
+
+-- Reviews of a cycle by status (report, feedback, export) and the pending-PM filter
+create index idx_pm_reviews_cycle_status on pm_reviews (appraisal_cycle_id, status, reviewer_id);
+
+-- findByReviewerAndStatus, findSummariesByReviewer
+create index idx_pm_reviews_reviewer_status on pm_reviews (reviewer_id, status, id);
+
+-- Ratings of a review joined per question (aggregateReport, export)
+create index idx_pm_ratings_review_question on pm_ratings (pm_review_id, question_id, rating);
+
+-- Self ratings of a cycle joined per question (aggregateReport, export)
+create index idx_self_assessments_cycle_question on self_assessments (appraisal_cycle_id, question_id, rating);
+
+-- findByRole and the eligible-employee queries
+create index idx_user_roles_role on user_roles (role, user_id);
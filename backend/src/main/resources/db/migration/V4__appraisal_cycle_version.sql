@@ -0,0 +1,2 @@
+-- Optimistic version of a cycle; also the ETag of its report, feedback and summary
+alter table appraisal_cycles add column version bigint default 0 not null;
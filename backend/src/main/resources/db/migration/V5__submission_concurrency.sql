@@ -0,0 +1,96 @@
+-- Backstops for the workflow's check-then-act submissions: concurrent or retried writes that
+-- slip past the status checks fail on these instead of storing duplicates
+
+-- The old checks could already have let duplicates through, and V3 may have merged cycles whose
+-- answers overlap; collapse them before the constraints below.
+
+-- A PM's reviews of one cycle merge into the submitted one (else the newest); ratings move with them
+create table pm_review_merge (
+    dropped_id bigint not null,
+    kept_id bigint not null,
+    primary key (dropped_id)
+) engine=InnoDB;
+
+insert into pm_review_merge (dropped_id, kept_id)
+select r.id,
+       (select k.id from pm_reviews k
+        where k.appraisal_cycle_id = r.appraisal_cycle_id and k.reviewer_id = r.reviewer_id
+        order by case k.status when 'SUBMITTED' then 1 else 0 end desc, k.id desc
+        limit 1)
+from pm_reviews r
+where exists (select 1 from pm_reviews o
+              where o.appraisal_cycle_id = r.appraisal_cycle_id and o.reviewer_id = r.reviewer_id and o.id <> r.id);
+delete from pm_review_merge where dropped_id = kept_id;
+
+-- Of the ratings for one question, the kept review's own wins, else the newest
+create table pm_rating_merge (
+    dropped_id bigint not null,
+    kept_id bigint not null,
+    primary key (dropped_id)
+) engine=InnoDB;
+
+insert into pm_rating_merge (dropped_id, kept_id)
+select x.id,
+       (select y.id from pm_ratings y
+        where y.question_id = x.question_id
+          and (y.pm_review_id = coalesce(xm.kept_id, x.pm_review_id)
+               or y.pm_review_id in (select d.dropped_id from pm_review_merge d
+                                     where d.kept_id = coalesce(xm.kept_id, x.pm_review_id)))
+        order by case when y.pm_review_id = coalesce(xm.kept_id, x.pm_review_id) then 1 else 0 end desc, y.id desc
+        limit 1)
+from pm_ratings x
+left join pm_review_merge xm on xm.dropped_id = x.pm_review_id
+where xm.dropped_id is not null
+   or x.pm_review_id in (select kept_id from pm_review_merge)
+   or exists (select 1 from pm_ratings o
+              where o.pm_review_id = x.pm_review_id and o.question_id = x.question_id and o.id <> x.id);
+delete from pm_rating_merge where dropped_id = kept_id;
+
+-- A rating holds one clarification; of the merged ratings' replies the newest is kept
+delete from clarifications
+where id in (select id from (
+    select distinct c.id
+    from clarifications c
+    left join pm_rating_merge cm on cm.dropped_id = c.pm_rating_id
+    join pm_rating_merge g on g.kept_id = coalesce(cm.kept_id, c.pm_rating_id)
+    join clarifications n on n.id > c.id and (n.pm_rating_id = g.kept_id or n.pm_rating_id = g.dropped_id)) superseded);
+update clarifications
+set pm_rating_id = (select m.kept_id from pm_rating_merge m where m.dropped_id = clarifications.pm_rating_id)
+where pm_rating_id in (select dropped_id from pm_rating_merge);
+
+delete from pm_ratings where id in (select dropped_id from pm_rating_merge);
+update pm_ratings
+set pm_review_id = (select m.kept_id from pm_review_merge m where m.dropped_id = pm_ratings.pm_review_id)
+where pm_review_id in (select dropped_id from pm_review_merge);
+delete from pm_reviews where id in (select dropped_id from pm_review_merge);
+drop table pm_rating_merge;
+drop table pm_review_merge;
+
+-- The last self-assessment answer to a question stands
+delete from self_assessments
+where id not in (select id from (
+    select max(id) id from self_assessments group by appraisal_cycle_id, question_id) latest);
+
+-- One rating per question in a self-assessment and in a PM review
+alter table self_assessments
+    add constraint uk_self_assessments_cycle_question unique (appraisal_cycle_id, question_id);
+alter table pm_ratings
+    add constraint uk_pm_ratings_review_question unique (pm_review_id, question_id);
+
+-- A PM reviews a cycle at most once
+alter table pm_reviews
+    add constraint uk_pm_reviews_cycle_reviewer unique (appraisal_cycle_id, reviewer_id);
+
+-- Optimistic version of a review; submitting it twice concurrently fails one of the writers
+alter table pm_reviews add column version bigint default 0 not null;
+
+-- Idempotency-Key of each committed submission, per user, with a digest of the request it was used for
+create table idempotency_keys (
+    user_id bigint not null,
+    idempotency_key varchar(100) not null,
+    request_digest varchar(64) not null,
+    created_at datetime(6) not null,
+    primary key (user_id, idempotency_key)
+) engine=InnoDB;
+
+create index idx_idempotency_keys_created_at on idempotency_keys (created_at);
@@ -0,0 +1,2 @@
+-- Response of submissions that return a result, so a retry gets the original answer back
+alter table idempotency_keys add column response_body text;
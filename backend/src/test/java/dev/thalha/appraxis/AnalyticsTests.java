@@ -0,0 +1,164 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.dto.PmRatingDto;
+import dev.thalha.appraxis.dto.QuestionDistributionDto;
+import dev.thalha.appraxis.dto.RatingAnalyticsDto;
+import dev.thalha.appraxis.dto.RatingStatsDto;
+import dev.thalha.appraxis.dto.RatingSubmissionDto;
+import dev.thalha.appraxis.model.Question;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import dev.thalha.appraxis.service.AppraisalService;
+import dev.thalha.appraxis.service.EmployeeService;
+import dev.thalha.appraxis.service.PmReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Yearly rating distributions: histograms, mean and population standard deviation per
+ * question, recomputed once a rating for the year commits.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class AnalyticsTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AppraisalService appraisalService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private PmReviewService pmReviewService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void committedRatingsReplaceTheCachedYear() throws Exception {
+        String year = "2033";
+        Long questionId = questionRepository.findByActiveTrue().get(0).getId();
+        Long firstCycle = selfAssessed("analytics.first", year, 4);
+
+        RatingStatsDto self = question(distribution(year), questionId).getSelf();
+        assertEquals(1, self.getCount());
+        assertEquals(4.0, self.getMean());
+        assertEquals(0.0, self.getStddev());
+        assertNull(question(distribution(year), questionId).getPm().getMean());
+
+        selfAssessed("analytics.second", year, 8);
+        reviewed(firstCycle, 7);
+
+        QuestionDistributionDto updated = question(distribution(year), questionId);
+        assertArrayEquals(new long[]{0, 0, 0, 1, 0, 0, 0, 1, 0, 0}, updated.getSelf().getHistogram());
+        assertEquals(2, updated.getSelf().getCount());
+        assertEquals(6.0, updated.getSelf().getMean());
+        assertEquals(2.0, updated.getSelf().getStddev());
+        assertEquals(1, updated.getPm().getCount());
+        assertEquals(7.0, updated.getPm().getMean());
+    }
+
+    @Test
+    void retiredQuestionsAppearOnlyWhereRated() throws Exception {
+        String year = "2034";
+        Question rated = questionRepository.save(new Question("Retired after rating", "Analytics"));
+        selfAssessed("analytics.retired", year, 5);
+        rated.setActive(false);
+        questionRepository.save(rated);
+        Question unrated = new Question("Retired before rating", "Analytics");
+        unrated.setActive(false);
+        unrated = questionRepository.save(unrated);
+
+        List<Long> questionIds = distribution(year).getQuestions().stream()
+                .map(QuestionDistributionDto::getQuestionId)
+                .toList();
+
+        assertThat(questionIds).contains(rated.getId()).doesNotContain(unrated.getId());
+    }
+
+    private Long selfAssessed(String username, String year, int rating) {
+        User employee = userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}unused")
+                .name(username)
+                .email(username + "@company.com")
+                .roles(Set.of(Role.EMPLOYEE))
+                .build());
+        Long cycleId = appraisalService.initiateAppraisal(employee.getId(), year, user("lisa.johnson")).getId();
+        employeeService.submitSelfAssessment(cycleId, questionRepository.findByActiveTrue().stream().map(question -> {
+            RatingSubmissionDto dto = new RatingSubmissionDto();
+            dto.setQuestionId(question.getId());
+            dto.setRating(rating);
+            dto.setComment("Analytics");
+            return dto;
+        }).toList(), employee);
+        return cycleId;
+    }
+
+    private void reviewed(Long cycleId, int rating) {
+        appraisalService.assignPm(cycleId, user("jane.smith").getId());
+        Long reviewId = jdbcTemplate.queryForObject(
+                "SELECT id FROM pm_reviews WHERE appraisal_cycle_id = ?", Long.class, cycleId);
+        pmReviewService.submitReview(reviewId, questionRepository.findByActiveTrue().stream().map(question -> {
+            PmRatingDto dto = new PmRatingDto();
+            dto.setQuestionId(question.getId());
+            dto.setRating(rating);
+            dto.setComment("Analytics");
+            return dto;
+        }).toList());
+    }
+
+    private RatingAnalyticsDto distribution(String year) throws Exception {
+        String body = mvc.perform(get("/api/analytics/ratings").param("year", year)
+                        .header("Authorization", "Bearer " + jwtUtils.generateToken(user("lisa.johnson"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return jsonMapper.readValue(body, RatingAnalyticsDto.class);
+    }
+
+    private static QuestionDistributionDto question(RatingAnalyticsDto distribution, Long questionId) {
+        return distribution.getQuestions().stream()
+                .filter(question -> question.getQuestionId().equals(questionId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private User user(String username) {
+        return userRepository.findByUsername(username).orElseThrow();
+    }
+}
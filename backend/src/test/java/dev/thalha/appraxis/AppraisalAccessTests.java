@@ -0,0 +1,65 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Bulk workflow endpoints under /api/appraisals are HR only, although PMs may use the rest of it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class AppraisalAccessTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void onlyHrInitiatesInBulk() throws Exception {
+        // No employee has this designation, so the allowed call opens nothing
+        String request = """
+                {"year": "2040", "designation": "No Such Designation"}
+                """;
+
+        assertEquals(403, status("/api/appraisals/bulk", request, "jane.smith"));
+        assertEquals(200, status("/api/appraisals/bulk", request, "lisa.johnson"));
+    }
+
+    @Test
+    void onlyHrAssignsInBulk() throws Exception {
+        User pm = userRepository.findByUsername("jane.smith").orElseThrow();
+        // The cycle does not exist, so the allowed call assigns nothing
+        String request = """
+                {"assignments": [{"cycleId": 999999, "pmId": %d}]}
+                """.formatted(pm.getId());
+
+        assertEquals(403, status("/api/appraisals/assign-pm/bulk", request, "jane.smith"));
+        assertEquals(200, status("/api/appraisals/assign-pm/bulk", request, "lisa.johnson"));
+    }
+
+    private int status(String path, String body, String username) throws Exception {
+        User user = userRepository.findByUsername(username).orElseThrow();
+        return mvc.perform(post(path)
+                        .header("Authorization", "Bearer " + jwtUtils.generateToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getStatus();
+    }
+}
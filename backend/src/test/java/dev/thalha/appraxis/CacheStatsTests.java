@@ -0,0 +1,71 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Second-level cache statistics and eviction are open to HR and the boss, like the actuator.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class CacheStatsTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void hrSeesQuestionCacheHits() throws Exception {
+        assertEquals(204, responseStatus(delete("/api/admin/cache-stats"), "lisa.johnson"));
+
+        // The first read fills the query cache and the second is served from it
+        assertEquals(200, responseStatus(get("/api/questions"), "jane.smith"));
+        assertEquals(200, responseStatus(get("/api/questions"), "jane.smith"));
+
+        mvc.perform(authorized(get("/api/admin/cache-stats"), "lisa.johnson"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queryCacheHitCount").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.regions[*].region").value(hasItem(endsWith("questions"))));
+    }
+
+    @Test
+    void onlyHrAndBossReachCacheEndpoints() throws Exception {
+        assertEquals(403, responseStatus(get("/api/admin/cache-stats"), "jane.smith"));
+        assertEquals(403, responseStatus(post("/api/admin/cache/evict"), "alex.kumar"));
+        assertEquals(200, responseStatus(get("/api/admin/cache-stats"), "robert.taylor"));
+        assertEquals(204, responseStatus(post("/api/admin/cache/evict"), "robert.taylor"));
+    }
+
+    private int responseStatus(MockHttpServletRequestBuilder request, String username) throws Exception {
+        return mvc.perform(authorized(request, username)).andReturn().getResponse().getStatus();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, String username) {
+        User user = userRepository.findByUsername(username).orElseThrow();
+        return request.header("Authorization", "Bearer " + jwtUtils.generateToken(user));
+    }
+}
@@ -0,0 +1,149 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.dto.PmRatingDto;
+import dev.thalha.appraxis.dto.ReportDto;
+import dev.thalha.appraxis.dto.ReportSnapshotDto;
+import dev.thalha.appraxis.dto.ReviewerBaselineDto;
+import dev.thalha.appraxis.model.ReviewerStats;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import dev.thalha.appraxis.repository.ReviewerStatsRepository;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.service.AppraisalService;
+import dev.thalha.appraxis.service.BossService;
+import dev.thalha.appraxis.service.PmReviewService;
+import dev.thalha.appraxis.service.ReportSnapshotService;
+import dev.thalha.appraxis.service.ReviewerCalibrationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Reviewer calibration: running stats folded in per review must match a direct computation
+ * over every rating, reports z-score against the baselines stored with them, and a closed
+ * cycle's report keeps the figures it was frozen with.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class CalibrationTests {
+
+    private static final double TOLERANCE = 1e-9;
+    private static final String YEAR = "2036";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private ReviewerStatsRepository reviewerStatsRepository;
+
+    @Autowired
+    private ReviewerCalibrationService reviewerCalibrationService;
+
+    @Autowired
+    private AppraisalService appraisalService;
+
+    @Autowired
+    private PmReviewService pmReviewService;
+
+    @Autowired
+    private BossService bossService;
+
+    @Autowired
+    private ReportSnapshotService reportSnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void runningStatsMatchDirectComputation() {
+        Long reviewerId = newUser("calibration.stats", Role.PROJECT_MANAGER).getId();
+        List<List<Integer>> reviews = List.of(List.of(3, 7, 9), List.of(5), List.of(10, 1, 4, 4), List.of(6, 6));
+        List<Integer> all = new ArrayList<>();
+
+        for (List<Integer> review : reviews) {
+            reviewerCalibrationService.recordReview(reviewerId, review);
+            all.addAll(review);
+        }
+
+        ReviewerStats stats = reviewerStatsRepository.findById(reviewerId).orElseThrow();
+        double mean = all.stream().mapToInt(Integer::intValue).average().orElseThrow();
+        double m2 = all.stream().mapToDouble(rating -> (rating - mean) * (rating - mean)).sum();
+        assertEquals(all.size(), stats.getRatingCount());
+        assertEquals(mean, stats.getMean(), TOLERANCE);
+        assertEquals(m2, stats.getM2(), TOLERANCE);
+    }
+
+    @Test
+    void reportScoresAgainstStoredBaselines() {
+        User reviewer = newUser("calibration.reviewer", Role.PROJECT_MANAGER);
+        reviewerCalibrationService.recordReview(reviewer.getId(), List.of(2, 4, 6, 8));
+        Long cycleId = reviewedCycle(reviewer, 9);
+
+        ReportSnapshotDto report = reportSnapshotService.getSnapshot(cycleId);
+        ReviewerBaselineDto baseline = report.getReviewerBaselines().get(0);
+        assertEquals(reviewer.getId(), baseline.getReviewerId());
+        assertEquals(4 + questionRepository.findByActiveTrue().size(), baseline.getRatingCount());
+        for (ReportDto question : report.getQuestions()) {
+            if (question.getPmRatingCount() > 0) {
+                assertEquals((9 - baseline.getMean()) / baseline.getStdDev(), question.getPmCalibratedScore(), TOLERANCE);
+            }
+        }
+    }
+
+    @Test
+    void closedCycleReportIgnoresLaterStats() {
+        User reviewer = newUser("calibration.frozen", Role.PROJECT_MANAGER);
+        reviewerCalibrationService.recordReview(reviewer.getId(), List.of(2, 4, 6, 8));
+        Long cycleId = reviewedCycle(reviewer, 9);
+        bossService.finalizeAppraisal(cycleId, "Calibrated");
+        ReportSnapshotDto frozen = reportSnapshotService.getSnapshot(cycleId);
+
+        // The reviewer's stats move on and the snapshot is asked to refresh, but it stays as closed
+        reviewerCalibrationService.recordReview(reviewer.getId(), List.of(1, 1, 1, 1, 1, 1));
+        reportSnapshotService.refresh(cycleId);
+
+        assertNotEquals(frozen.getReviewerBaselines().get(0).getMean(),
+                reviewerStatsRepository.findById(reviewer.getId()).orElseThrow().getMean());
+        assertEquals(frozen, reportSnapshotService.getSnapshot(cycleId));
+    }
+
+    private Long reviewedCycle(User reviewer, int rating) {
+        User employee = newUser(reviewer.getUsername() + ".employee", Role.EMPLOYEE);
+        Long cycleId = appraisalService.initiateAppraisal(employee.getId(), YEAR,
+                userRepository.findByUsername("lisa.johnson").orElseThrow()).getId();
+        appraisalService.assignPm(cycleId, reviewer.getId());
+        Long reviewId = jdbcTemplate.queryForObject(
+                "SELECT id FROM pm_reviews WHERE appraisal_cycle_id = ?", Long.class, cycleId);
+        pmReviewService.submitReview(reviewId, questionRepository.findByActiveTrue().stream().map(question -> {
+            PmRatingDto dto = new PmRatingDto();
+            dto.setQuestionId(question.getId());
+            dto.setRating(rating);
+            dto.setComment("Calibration");
+            return dto;
+        }).toList());
+        return cycleId;
+    }
+
+    private User newUser(String username, Role role) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}unused")
+                .name(username)
+                .email(username + "@company.com")
+                .roles(Set.of(role))
+                .build());
+    }
+}
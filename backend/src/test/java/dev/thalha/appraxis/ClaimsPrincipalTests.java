@@ -0,0 +1,132 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import dev.thalha.appraxis.service.UserAccountService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Requests are authenticated from token claims alone. Whatever a response shows beyond the
+ * claims must be loaded, and tokens must stop working once the user's password or roles change.
+ * Those changes go through JPA, so the cached user is replaced rather than left stale.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class ClaimsPrincipalTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void initiatedCycleShowsInitiatorProfile() throws Exception {
+        User hr = user("lisa.johnson");
+
+        mvc.perform(post("/api/appraisals")
+                        .header("Authorization", "Bearer " + jwtUtils.generateToken(hr))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"employeeId": %d, "year": "2050"}
+                                """.formatted(user("alex.kumar").getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hrInitiator.name").value("Lisa Johnson"))
+                .andExpect(jsonPath("$.hrInitiator.email").value(hr.getEmail()));
+    }
+
+    @Test
+    void roleChangeRevokesIssuedTokens() throws Exception {
+        User employee = newEmployee("roles.changed");
+        String token = jwtUtils.generateToken(employee);
+        assertEquals(200, responseStatus(get("/api/employee/cycles"), token));
+
+        userAccountService.updateRoles(employee.getId(), Set.of(Role.EMPLOYEE, Role.PROJECT_MANAGER));
+
+        assertEquals(403, responseStatus(get("/api/employee/cycles"), token));
+        assertEquals(200, responseStatus(get("/api/pm/pending-reviews"), jwtUtils.generateToken(user("roles.changed"))));
+    }
+
+    @Test
+    void passwordResetRevokesIssuedTokens() throws Exception {
+        User employee = newEmployee("password.reset");
+        String token = jwtUtils.generateToken(employee);
+        assertEquals(200, responseStatus(get("/api/employee/cycles"), token));
+
+        userAccountService.changePassword(employee.getId(), "rotated");
+
+        assertEquals(403, responseStatus(get("/api/employee/cycles"), token));
+        assertEquals(200, mvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "password.reset", "password": "rotated"}
+                                """))
+                .andReturn().getResponse().getStatus());
+    }
+
+    @Test
+    void roleChangeUpdatesCachedUser() throws Exception {
+        User employee = newEmployee("roles.cached");
+        userRepository.findById(employee.getId()).orElseThrow();
+
+        userAccountService.updateRoles(employee.getId(), Set.of(Role.EMPLOYEE, Role.PROJECT_MANAGER));
+
+        // The users region now holds the committed row, so the next read is a cache hit
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(entityManagerFactory.getCache().contains(User.class, employee.getId()));
+        long hits = statistics.getSecondLevelCacheHitCount();
+
+        User cached = userRepository.findById(employee.getId()).orElseThrow();
+        assertEquals(hits + 1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, cached.getSecurityVersion());
+    }
+
+    private User newEmployee(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}unused")
+                .name(username)
+                .email(username + "@company.com")
+                .roles(Set.of(Role.EMPLOYEE))
+                .build());
+    }
+
+    private int responseStatus(MockHttpServletRequestBuilder request, String token) throws Exception {
+        return mvc.perform(request.header("Authorization", "Bearer " + token)).andReturn().getResponse().getStatus();
+    }
+
+    private User user(String username) {
+        return userRepository.findByUsername(username).orElseThrow();
+    }
+}
@@ -0,0 +1,179 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.model.Question;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import dev.thalha.appraxis.service.AppraisalService;
+import dev.thalha.appraxis.service.CycleViewCache;
+import dev.thalha.appraxis.support.StatementCounter;
+import dev.thalha.appraxis.support.StatementCountingConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Cycle views carry the cycle's version as their ETag. A matching If-None-Match is answered
+ * with 304 without building the view, and every write to the cycle must retire the old ETag.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+@Import(StatementCountingConfiguration.class)
+class ConditionalResponseTests {
+
+    private static final String YEAR = "2031";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AppraisalService appraisalService;
+
+    @Autowired
+    private CycleViewCache cycleViewCache;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void matchingEtagSkipsTheReport() throws Exception {
+        User employee = newEmployee("etag.match");
+        Long cycleId = appraisalService.initiateAppraisal(employee.getId(), YEAR, user("lisa.johnson")).getId();
+        String token = jwtUtils.generateToken(employee);
+
+        MockHttpServletResponse first = perform(get("/api/employee/report/" + cycleId), token);
+        assertEquals(200, first.getStatus());
+        assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache");
+        String eTag = first.getHeader(HttpHeaders.ETAG);
+
+        // With the view cache empty, building the report would need more than the version lookup
+        cycleViewCache.evictAll();
+        StatementCounter.assertAtMost(1, "GET /api/employee/report with a matching ETag", () ->
+                assertEquals(304, perform(get("/api/employee/report/" + cycleId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag), token).getStatus()));
+    }
+
+    @Test
+    void reviewSubmissionRetiresEtag() throws Exception {
+        User employee = newEmployee("etag.review");
+        Long cycleId = assignedCycle(employee);
+        String token = jwtUtils.generateToken(employee);
+        String eTag = perform(get("/api/employee/report/" + cycleId), token).getHeader(HttpHeaders.ETAG);
+
+        submitReview(cycleId);
+
+        MockHttpServletResponse after = perform(get("/api/employee/report/" + cycleId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag), token);
+        assertEquals(200, after.getStatus());
+        assertNotEquals(eTag, after.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void clarificationRetiresEtag() throws Exception {
+        User employee = newEmployee("etag.clarify");
+        Long cycleId = assignedCycle(employee);
+        Long reviewId = submitReview(cycleId);
+        String token = jwtUtils.generateToken(employee);
+        String eTag = perform(get("/api/employee/feedback/" + cycleId), token).getHeader(HttpHeaders.ETAG);
+        Long ratingId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM pm_ratings WHERE pm_review_id = ?", Long.class, reviewId);
+
+        assertEquals(200, perform(post("/api/employee/clarify")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"pmRatingId": %d, "replyText": "Shipped two releases early"}
+                        """.formatted(ratingId)), token).getStatus());
+
+        MockHttpServletResponse after = perform(get("/api/employee/feedback/" + cycleId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag), token);
+        assertEquals(200, after.getStatus());
+        assertNotEquals(eTag, after.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void closedCycleIsImmutable() throws Exception {
+        User employee = newEmployee("etag.closed");
+        Long cycleId = assignedCycle(employee);
+        submitReview(cycleId);
+        String bossToken = jwtUtils.generateToken(user("robert.taylor"));
+
+        assertThat(perform(get("/api/boss/summary/" + cycleId), bossToken).getHeader(HttpHeaders.CACHE_CONTROL))
+                .contains("no-cache");
+        assertEquals(200, perform(post("/api/boss/close/" + cycleId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"bossComment": "Well done"}
+                        """), bossToken).getStatus());
+
+        assertThat(perform(get("/api/boss/summary/" + cycleId), bossToken).getHeader(HttpHeaders.CACHE_CONTROL))
+                .contains("immutable", "max-age=31536000")
+                .doesNotContain("no-cache");
+    }
+
+    private Long assignedCycle(User employee) {
+        Long cycleId = appraisalService.initiateAppraisal(employee.getId(), YEAR, user("lisa.johnson")).getId();
+        appraisalService.assignPm(cycleId, user("david.brown").getId());
+        return cycleId;
+    }
+
+    private Long submitReview(Long cycleId) throws Exception {
+        Long reviewId = jdbcTemplate.queryForObject(
+                "SELECT id FROM pm_reviews WHERE appraisal_cycle_id = ?", Long.class, cycleId);
+        String ratings = questionRepository.findByActiveTrue().stream()
+                .map(Question::getId)
+                .map(id -> "{\"questionId\":" + id + ",\"rating\":6,\"comment\":\"Steady\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        assertEquals(200, perform(post("/api/pm/reviews/" + reviewId + "/submit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(ratings), jwtUtils.generateToken(user("david.brown"))).getStatus());
+        return reviewId;
+    }
+
+    private User newEmployee(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}unused")
+                .name(username)
+                .email(username + "@company.com")
+                .roles(Set.of(Role.EMPLOYEE))
+                .build());
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request, String token) throws Exception {
+        return mvc.perform(request.header("Authorization", "Bearer " + token)).andReturn().getResponse();
+    }
+
+    private User user(String username) {
+        return userRepository.findByUsername(username).orElseThrow();
+    }
+}
@@ -0,0 +1,145 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.event.CycleClosedEvent;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import dev.thalha.appraxis.service.AppraisalService;
+import dev.thalha.appraxis.service.DashboardEventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Dashboard events reach only the dashboards they concern, and only once the write that
+ * caused them has committed. Connections that fall behind are closed rather than buffered.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class DashboardEventTests {
+
+    private static final String YEAR = "2032";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AppraisalService appraisalService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void assignmentReachesOnlyTheAssignedPmAfterCommit() throws Exception {
+        User assigned = user("jane.smith");
+        MockHttpServletResponse assignedStream = subscribe("/api/pm/events", assigned);
+        MockHttpServletResponse otherStream = subscribe("/api/pm/events", user("david.brown"));
+        Long rolledBack = openCycle("events.rolled.back");
+        Long committed = openCycle("events.committed");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            appraisalService.assignPm(rolledBack, assigned.getId());
+            status.setRollbackOnly();
+        });
+        appraisalService.assignPm(committed, assigned.getId());
+
+        // Events on one stream arrive in order, so once the committed one is there the other would be too
+        awaitContent(assignedStream, "\"cycleId\":" + committed);
+        assertThat(assignedStream.getContentAsString())
+                .contains("event:review-assigned")
+                .doesNotContain("\"cycleId\":" + rolledBack);
+        assertThat(otherStream.getContentAsString()).doesNotContain("\"cycleId\":" + committed);
+    }
+
+    @Test
+    void connectionThatFallsBehindIsClosed() {
+        List<Runnable> pendingDrains = new ArrayList<>();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        // Nothing drains, so the buffer of two fills with the greeting and the first event
+        DashboardEventService events = new DashboardEventService(null, null, pendingDrains::add, registry,
+                Duration.ofMinutes(1), 2);
+        events.subscribe(Role.BOSS, 1L);
+
+        events.onCycleClosed(new CycleClosedEvent(1L, YEAR));
+        assertEquals(1.0, connections(registry));
+
+        events.onCycleClosed(new CycleClosedEvent(2L, YEAR));
+        assertEquals(0.0, connections(registry));
+        assertEquals(1.0, registry.get("appraxis.events.overflows").counter().count());
+        assertEquals(1, pendingDrains.size());
+    }
+
+    @Test
+    void connectionIsClosedWhenTheExecutorIsSaturated() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DashboardEventService events = new DashboardEventService(null, null, task -> {
+            throw new TaskRejectedException("Saturated");
+        }, registry, Duration.ofMinutes(1), 2);
+
+        events.subscribe(Role.BOSS, 1L);
+
+        assertEquals(0.0, connections(registry));
+        assertEquals(1.0, registry.get("appraxis.events.overflows").counter().count());
+    }
+
+    private MockHttpServletResponse subscribe(String path, User user) throws Exception {
+        return mvc.perform(get(path).header("Authorization", "Bearer " + jwtUtils.generateToken(user)))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!response.getContentAsString().contains(expected)) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for " + expected);
+            Thread.sleep(20);
+        }
+    }
+
+    private static double connections(MeterRegistry registry) {
+        return registry.get("appraxis.events.connections").tag("role", Role.BOSS.name()).gauge().value();
+    }
+
+    private Long openCycle(String username) {
+        User employee = userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}unused")
+                .name(username)
+                .email(username + "@company.com")
+                .roles(Set.of(Role.EMPLOYEE))
+                .build());
+        return appraisalService.initiateAppraisal(employee.getId(), YEAR, user("lisa.johnson")).getId();
+    }
+
+    private User user(String username) {
+        return userRepository.findByUsername(username).orElseThrow();
+    }
+}
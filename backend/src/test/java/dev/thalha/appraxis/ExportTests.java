@@ -0,0 +1,163 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.dto.PmRatingDto;
+import dev.thalha.appraxis.dto.RatingSubmissionDto;
+import dev.thalha.appraxis.model.Question;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import dev.thalha.appraxis.service.AppraisalService;
+import dev.thalha.appraxis.service.EmployeeService;
+import dev.thalha.appraxis.service.PmReviewService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Year exports as CSV and NDJSON: one row per rated question of each cycle, with free text
+ * that a spreadsheet would evaluate as a formula escaped in the CSV.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportTests {
+
+    private static final String YEAR = "2035";
+    private static final String FORMULA = "=HYPERLINK(\"http://example.com\",\"Click\")";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AppraisalService appraisalService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private PmReviewService pmReviewService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private List<Question> questions;
+
+    @BeforeAll
+    void seed() {
+        questions = questionRepository.findByActiveTrue();
+        User employee = userRepository.save(User.builder()
+                .username("export.employee")
+                .password("{noop}unused")
+                .name("Export Employee")
+                .email("export.employee@company.com")
+                .designation("Exporter")
+                .roles(Set.of(Role.EMPLOYEE))
+                .build());
+        Long cycleId = appraisalService.initiateAppraisal(employee.getId(), YEAR, user("lisa.johnson")).getId();
+        employeeService.submitSelfAssessment(cycleId, questions.stream().map(question -> {
+            RatingSubmissionDto dto = new RatingSubmissionDto();
+            dto.setQuestionId(question.getId());
+            dto.setRating(6);
+            dto.setComment(FORMULA);
+            return dto;
+        }).toList(), employee);
+
+        appraisalService.assignPm(cycleId, user("jane.smith").getId());
+        Long reviewId = jdbcTemplate.queryForObject(
+                "SELECT id FROM pm_reviews WHERE appraisal_cycle_id = ?", Long.class, cycleId);
+        pmReviewService.submitReview(reviewId, questions.stream().map(question -> {
+            PmRatingDto dto = new PmRatingDto();
+            dto.setQuestionId(question.getId());
+            dto.setRating(7);
+            dto.setComment("Solid");
+            return dto;
+        }).toList());
+    }
+
+    @Test
+    void csvHasHeaderAndEscapesFormulas() throws Exception {
+        String[] lines = export("csv").split("\r\n");
+
+        assertEquals("cycle_id,year,employee_id,employee_name,designation,status,question_id,category,question,"
+                + "self_rating,self_comment,pm_name,pm_rating,pm_comment,boss_comment", lines[0]);
+        assertEquals(questions.size() + 1, lines.length);
+        // Prefixed with an apostrophe, then quoted for its commas and quotes
+        assertThat(lines[1]).contains(",\"'=HYPERLINK(\"\"http://example.com\"\",\"\"Click\"\")\",");
+    }
+
+    @Test
+    void ndjsonHasOneObjectPerRow() throws Exception {
+        String[] lines = export("ndjson").split("\n");
+
+        assertEquals(questions.size(), lines.length);
+        JsonNode first = jsonMapper.readTree(lines[0]);
+        assertEquals(YEAR, first.get("year").asString());
+        assertEquals("Export Employee", first.get("employeeName").asString());
+        // Only the CSV is meant for spreadsheets; JSON keeps the text as written
+        assertEquals(FORMULA, first.get("selfComment").asString());
+        assertEquals(7, first.get("pmRating").asInt());
+    }
+
+    @Test
+    void rejectsInvalidYearAndFormat() throws Exception {
+        mvc.perform(get("/api/exports/appraisals").param("year", "20x5").header("Authorization", hrAuthorization()))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/exports/appraisals").param("year", YEAR).param("format", "xlsx")
+                        .header("Authorization", hrAuthorization()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String export(String format) throws Exception {
+        MvcResult started = mvc.perform(get("/api/exports/appraisals")
+                        .param("year", YEAR)
+                        .param("format", format)
+                        .header("Authorization", hrAuthorization()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private String hrAuthorization() {
+        return "Bearer " + jwtUtils.generateToken(user("lisa.johnson"));
+    }
+
+    private User user(String username) {
+        return userRepository.findByUsername(username).orElseThrow();
+    }
+}
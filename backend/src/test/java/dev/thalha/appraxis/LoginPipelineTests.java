@@ -0,0 +1,101 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Logins run on a deliberately tiny login executor here: one thread and one queued login.
+ */
+@SpringBootTest(properties = {"appraxis.login.threads=1", "appraxis.login.queue-capacity=1"})
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class LoginPipelineTests {
+
+    private static final int CLIENTS = 8;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void outdatedHashIsReplacedOnLogin() throws Exception {
+        userRepository.save(User.builder()
+                .username("legacy.user")
+                .password(new BCryptPasswordEncoder(4).encode("password"))
+                .name("Legacy User")
+                .email("legacy.user@company.com")
+                .roles(Set.of(Role.EMPLOYEE))
+                .build());
+
+        assertEquals(200, login("legacy.user", "password").getResponse().getStatus());
+
+        String stored = jdbcTemplate.queryForObject("SELECT password FROM users WHERE username = ?", String.class, "legacy.user");
+        assertThat(stored).startsWith("{bcrypt}$2a$10$");
+        assertEquals(200, login("legacy.user", "password").getResponse().getStatus());
+    }
+
+    @Test
+    void loginsBeyondTheQueueAreRejectedWithRetryAfter() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<MvcResult>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                results.add(clients.submit(() -> {
+                    start.await();
+                    return login("john.doe", "password");
+                }));
+            }
+            start.countDown();
+
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<MvcResult> result : results) {
+                MvcResult response = result.get();
+                statuses.add(response.getResponse().getStatus());
+                if (response.getResponse().getStatus() == 503) {
+                    assertEquals("2", response.getResponse().getHeader("Retry-After"));
+                }
+            }
+            assertThat(statuses).containsOnly(200, 503).contains(200, 503);
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private MvcResult login(String username, String password) throws Exception {
+        return mvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "%s", "password": "%s"}
+                                """.formatted(username, password)))
+                .andReturn();
+    }
+}
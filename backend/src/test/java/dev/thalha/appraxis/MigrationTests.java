@@ -0,0 +1,158 @@
+package dev.thalha.appraxis;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the Flyway migrations against the embedded database, both on an empty schema and on
+ * the schema Hibernate created before migrations existed, which must end up the same. Duplicates
+ * the old check-then-act code could leave behind are merged before the unique constraints go on.
+ * Hibernate's validation of the migrated schema is covered by every test that starts the
+ * application on the embedded profile.
+ */
+class MigrationTests {
+
+    private static final List<String> HOT_QUERY_INDEXES = List.of(
+            "idx_appraisal_cycles_status",
+            "idx_appraisal_cycles_year",
+            "idx_pm_reviews_cycle_status",
+            "idx_pm_reviews_reviewer_status",
+            "idx_pm_ratings_review_question",
+            "idx_self_assessments_cycle_question",
+            "idx_user_roles_role");
+
+    @Test
+    void migratesEmptyDatabase() {
+        JdbcDataSource dataSource = embeddedDatabase();
+
+        Flyway flyway = flyway(dataSource);
+        flyway.migrate();
+
+        assertEquals(0, flyway.info().pending().length);
+        assertThat(indexNames(new JdbcTemplate(dataSource))).containsAll(HOT_QUERY_INDEXES);
+    }
+
+    @Test
+    void baselinesDatabaseCreatedBeforeMigrations() {
+        JdbcDataSource dataSource = embeddedDatabase();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/pre-flyway-schema.sql")).execute(dataSource);
+
+        Flyway flyway = flyway(dataSource);
+        MigrateResult result = flyway.migrate();
+
+        assertThat(result.migrations).isNotEmpty().noneMatch(migration -> migration.version.equals("1"));
+        assertEquals(0, flyway.info().pending().length);
+        assertThat(indexNames(jdbc)).containsAll(HOT_QUERY_INDEXES);
+
+        // Whatever V1 holds beyond the old schema would be missing here
+        JdbcDataSource migrated = embeddedDatabase();
+        flyway(migrated).migrate();
+        assertEquals(columns(new JdbcTemplate(migrated)), columns(jdbc));
+    }
+
+    @Test
+    void mergesDuplicatesLeftByOldCode() {
+        JdbcDataSource dataSource = embeddedDatabase();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/pre-flyway-schema.sql")).execute(dataSource);
+        jdbc.update("INSERT INTO users (id, username, password, name, email) VALUES (1, 'emp', 'x', 'Emp', 'emp@company.com')");
+        jdbc.update("INSERT INTO users (id, username, password, name, email) VALUES (2, 'pm', 'x', 'PM', 'pm@company.com')");
+        jdbc.update("INSERT INTO questions (id, active, category, text) VALUES (1, TRUE, 'Delivery', 'Q1'), (2, TRUE, 'Delivery', 'Q2')");
+        // Initiated twice; only the second cycle went on to the PM and the boss
+        jdbc.update("""
+                INSERT INTO appraisal_cycles (id, employee_id, hr_initiator_id, year, status, start_date, self_assessment_submitted)
+                VALUES (1, 1, 1, '2025', 'OPEN', CURRENT_DATE, FALSE),
+                       (2, 1, 1, '2025', 'PENDING_BOSS_REVIEW', CURRENT_DATE, TRUE)
+                """);
+        jdbc.update("""
+                INSERT INTO self_assessments (id, appraisal_cycle_id, question_id, rating)
+                VALUES (1, 1, 1, 2), (2, 2, 1, 4), (3, 2, 2, 3), (4, 2, 2, 5)
+                """);
+        jdbc.update("""
+                INSERT INTO pm_reviews (id, appraisal_cycle_id, reviewer_id, status)
+                VALUES (1, 1, 2, 'PENDING'), (2, 2, 2, 'SUBMITTED')
+                """);
+        jdbc.update("""
+                INSERT INTO pm_ratings (id, pm_review_id, question_id, rating)
+                VALUES (1, 1, 1, 1), (2, 2, 1, 4), (3, 2, 2, 2), (4, 2, 2, 3)
+                """);
+        jdbc.update("""
+                INSERT INTO clarifications (id, pm_rating_id, employee_reply)
+                VALUES (1, 1, 'On the draft'), (2, 3, 'On the older rating')
+                """);
+
+        flyway(dataSource).migrate();
+
+        assertEquals(List.of(2L), jdbc.queryForList("SELECT id FROM appraisal_cycles", Long.class));
+        assertEquals(List.of(4, 5), jdbc.queryForList(
+                "SELECT rating FROM self_assessments WHERE appraisal_cycle_id = 2 ORDER BY question_id", Integer.class));
+        assertEquals(List.of(2L), jdbc.queryForList("SELECT id FROM pm_reviews", Long.class));
+        assertEquals(List.of(4, 3), jdbc.queryForList(
+                "SELECT rating FROM pm_ratings WHERE pm_review_id = 2 ORDER BY question_id", Integer.class));
+        assertEquals(List.of("On the draft", "On the older rating"), jdbc.queryForList("""
+                SELECT c.employee_reply FROM clarifications c JOIN pm_ratings r ON r.id = c.pm_rating_id
+                ORDER BY r.question_id
+                """, String.class));
+    }
+
+    @Test
+    void rejectsSecondCycleForEmployeeInSameYear() {
+        JdbcDataSource dataSource = embeddedDatabase();
+        flyway(dataSource).migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (username, password, name, email) VALUES ('emp', 'x', 'Emp', 'emp@company.com')");
+        Long userId = jdbc.queryForObject("SELECT id FROM users WHERE username = 'emp'", Long.class);
+        String insertCycle = """
+                INSERT INTO appraisal_cycles (employee_id, hr_initiator_id, year, status, start_date, self_assessment_submitted)
+                VALUES (?, ?, '2026', 'OPEN', CURRENT_DATE, FALSE)
+                """;
+
+        jdbc.update(insertCycle, userId, userId);
+
+        assertThrows(DataIntegrityViolationException.class, () -> jdbc.update(insertCycle, userId, userId));
+    }
+
+    // Same settings as the application
+    private static Flyway flyway(JdbcDataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    private static JdbcDataSource embeddedDatabase() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:migration-" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,VALUE");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    private static List<String> columns(JdbcTemplate jdbc) {
+        return jdbc.queryForList("""
+                SELECT table_name || '.' || column_name || ' ' || data_type || ' ' || is_nullable
+                FROM information_schema.columns
+                WHERE table_schema = 'public' AND table_name <> 'flyway_schema_history'
+                ORDER BY table_name, column_name
+                """, String.class);
+    }
+
+    private static List<String> indexNames(JdbcTemplate jdbc) {
+        return jdbc.queryForList("SELECT index_name FROM information_schema.indexes", String.class);
+    }
+}
@@ -0,0 +1,270 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.dto.BulkInitiationRequestDto;
+import dev.thalha.appraxis.dto.PmRatingDto;
+import dev.thalha.appraxis.dto.RatingSubmissionDto;
+import dev.thalha.appraxis.model.AppraisalCycle;
+import dev.thalha.appraxis.model.PmReview;
+import dev.thalha.appraxis.model.Question;
+import dev.thalha.appraxis.model.ReviewStatus;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.PmReviewRepository;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import dev.thalha.appraxis.service.AppraisalService;
+import dev.thalha.appraxis.service.CycleViewCache;
+import dev.thalha.appraxis.service.EmployeeService;
+import dev.thalha.appraxis.service.PmReviewService;
+import dev.thalha.appraxis.support.StatementCounter;
+import dev.thalha.appraxis.support.StatementCountingConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the hot endpoints, so N+1 regressions fail the build. Reads are
+ * measured on a cycle with one PM review and on one with many, and must cost the same;
+ * submissions carry more ratings than their budget allows statements.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+@Import(StatementCountingConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetTests {
+
+    private static final int QUESTIONS = 25;
+    private static final int REVIEWS_ON_LARGE_CYCLE = 8;
+    private static final int TEAM_SIZE = 30;
+    private static final String TEAM = "Budget Team";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private PmReviewRepository pmReviewRepository;
+
+    @Autowired
+    private AppraisalService appraisalService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private PmReviewService pmReviewService;
+
+    @Autowired
+    private CycleViewCache cycleViewCache;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private List<Long> questionIds;
+    private Long smallCycleId;
+    private Long largeCycleId;
+    private Long openCycleId;
+    private Long pendingReviewId;
+    private String employeeToken;
+    private String openCycleEmployeeToken;
+    private String pmToken;
+    private String bossToken;
+    private String hrToken;
+    private Long pmId;
+    private String year;
+
+    @BeforeAll
+    void seed() {
+        for (long i = questionRepository.count(); i < QUESTIONS; i++) {
+            questionRepository.save(new Question("Budget question " + i, "Category " + (i % 5)));
+        }
+        questionIds = questionRepository.findByActiveTrue().stream().map(Question::getId).toList();
+
+        year = String.valueOf(LocalDate.now().getYear());
+        User hr = user("lisa.johnson");
+        User pm = user("jane.smith");
+
+        AppraisalCycle small = appraisalService.initiateAppraisal(user("sarah.wilson").getId(), year, hr);
+        employeeService.submitSelfAssessment(small.getId(), selfRatings(), user("sarah.wilson"));
+        submitReview(small, pm);
+        smallCycleId = small.getId();
+
+        AppraisalCycle large = appraisalService.initiateAppraisal(user("mike.chen").getId(), year, hr);
+        employeeService.submitSelfAssessment(large.getId(), selfRatings(), user("mike.chen"));
+        for (int i = 0; i < REVIEWS_ON_LARGE_CYCLE; i++) {
+            submitReview(large, userRepository.save(User.builder()
+                    .username("budget.pm" + i)
+                    .password("unused")
+                    .name("Budget PM " + i)
+                    .email("budget.pm" + i + "@company.com")
+                    .roles(Set.of(Role.PROJECT_MANAGER))
+                    .build()));
+        }
+        largeCycleId = large.getId();
+
+        User openCycleEmployee = user("emily.davis");
+        openCycleId = appraisalService.initiateAppraisal(openCycleEmployee.getId(), year, hr).getId();
+        appraisalService.assignPm(openCycleId, pm.getId());
+        pendingReviewId = pmReviewRepository.findByReviewerAndStatus(pm, ReviewStatus.PENDING).get(0).getId();
+
+        for (int i = 0; i < TEAM_SIZE; i++) {
+            userRepository.save(User.builder()
+                    .username("budget.employee" + i)
+                    .password("unused")
+                    .name("Budget Employee " + i)
+                    .email("budget.employee" + i + "@company.com")
+                    .designation(TEAM)
+                    .roles(Set.of(Role.EMPLOYEE))
+                    .build());
+        }
+        appraisalService.initiateAppraisals(new BulkInitiationRequestDto(year, null, TEAM), hr);
+        pmId = pm.getId();
+
+        employeeToken = jwtUtils.generateToken(user("john.doe"));
+        openCycleEmployeeToken = jwtUtils.generateToken(openCycleEmployee);
+        pmToken = jwtUtils.generateToken(pm);
+        bossToken = jwtUtils.generateToken(user("robert.taylor"));
+        hrToken = jwtUtils.generateToken(hr);
+    }
+
+    @Test
+    void reportCostIsIndependentOfReviewCount() throws Exception {
+        assertConstantCost(3, "GET /api/employee/report", cycleId ->
+                perform(get("/api/employee/report/" + cycleId), employeeToken));
+    }
+
+    @Test
+    void feedbackCostIsIndependentOfReviewCount() throws Exception {
+        assertConstantCost(3, "GET /api/employee/feedback", cycleId ->
+                perform(get("/api/employee/feedback/" + cycleId), employeeToken));
+    }
+
+    @Test
+    void bossSummaryCostIsIndependentOfReviewCount() throws Exception {
+        assertConstantCost(5, "GET /api/boss/summary", cycleId ->
+                perform(get("/api/boss/summary/" + cycleId), bossToken));
+    }
+
+    @Test
+    void selfAssessmentSubmissionIsBatched() throws Exception {
+        warmUp(openCycleEmployeeToken);
+        StatementCounter.assertAtMost(8, "POST /api/employee/self-assessment (" + QUESTIONS + " ratings)", () ->
+                perform(post("/api/employee/self-assessment/" + openCycleId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ratingsJson()), openCycleEmployeeToken));
+    }
+
+    @Test
+    void pmReviewSubmissionIsBatched() throws Exception {
+        warmUp(pmToken);
+        StatementCounter.assertAtMost(12, "POST /api/pm/reviews/submit (" + QUESTIONS + " ratings)", () ->
+                perform(post("/api/pm/reviews/" + pendingReviewId + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ratingsJson()), pmToken));
+    }
+
+    @Test
+    void bulkPmAssignmentIsSetBased() throws Exception {
+        warmUp(hrToken, get("/api/users/pms"));
+        StatementCounter.assertAtMost(6, "POST /api/appraisals/assign-pm/bulk (" + TEAM_SIZE + " cycles)", () ->
+                mvc.perform(post("/api/appraisals/assign-pm/bulk")
+                                .header("Authorization", "Bearer " + hrToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"pmId\":" + pmId + ",\"year\":\"" + year + "\",\"designation\":\"" + TEAM + "\"}"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.assigned").value(TEAM_SIZE)));
+    }
+
+    @FunctionalInterface
+    private interface CycleRequest {
+        void perform(Long cycleId) throws Exception;
+    }
+
+    private void assertConstantCost(int budget, String description, CycleRequest request) throws Exception {
+        // First calls fill per-user and per-cycle caches, which are not what is being budgeted;
+        // the view cache is emptied again so the views themselves are built while measured
+        request.perform(smallCycleId);
+        request.perform(largeCycleId);
+        cycleViewCache.evictAll();
+
+        int small = StatementCounter.assertAtMost(budget, description + " (1 review)", () -> request.perform(smallCycleId));
+        int large = StatementCounter.assertAtMost(budget, description + " (" + REVIEWS_ON_LARGE_CYCLE + " reviews)",
+                () -> request.perform(largeCycleId));
+        assertEquals(small, large, description + " statement count grows with the number of reviews");
+    }
+
+    private void warmUp(String token) throws Exception {
+        warmUp(token, get("/api/questions"));
+    }
+
+    private void warmUp(String token, MockHttpServletRequestBuilder request) throws Exception {
+        perform(request, token);
+    }
+
+    private void perform(MockHttpServletRequestBuilder request, String token) throws Exception {
+        mvc.perform(request.header("Authorization", "Bearer " + token)).andExpect(status().is2xxSuccessful());
+    }
+
+    private User user(String username) {
+        return userRepository.findByUsername(username).orElseThrow();
+    }
+
+    private void submitReview(AppraisalCycle cycle, User reviewer) {
+        PmReview review = new PmReview();
+        review.setAppraisalCycle(cycle);
+        review.setReviewer(reviewer);
+        review.setStatus(ReviewStatus.PENDING);
+        review = pmReviewRepository.save(review);
+
+        List<PmRatingDto> ratings = questionIds.stream().map(id -> {
+            PmRatingDto dto = new PmRatingDto();
+            dto.setQuestionId(id);
+            dto.setRating(1 + (int) (id % 10));
+            dto.setComment("Budget review");
+            return dto;
+        }).toList();
+        pmReviewService.submitReview(review.getId(), ratings);
+    }
+
+    private List<RatingSubmissionDto> selfRatings() {
+        return questionIds.stream().map(id -> {
+            RatingSubmissionDto dto = new RatingSubmissionDto();
+            dto.setQuestionId(id);
+            dto.setRating(1 + (int) (id % 10));
+            dto.setComment("Budget self assessment");
+            return dto;
+        }).toList();
+    }
+
+    private String ratingsJson() {
+        return questionIds.stream()
+                .map(id -> "{\"questionId\":" + id + ",\"rating\":" + (1 + id % 10) + ",\"comment\":\"Budget\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+}
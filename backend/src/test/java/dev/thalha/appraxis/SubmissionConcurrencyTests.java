@@ -0,0 +1,197 @@
+package dev.thalha.appraxis;
+
+import dev.thalha.appraxis.model.AppraisalCycle;
+import dev.thalha.appraxis.model.Question;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import dev.thalha.appraxis.service.AppraisalService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Workflow submissions under retries and concurrent duplicates: each must be stored once,
+ * with retries carrying the same Idempotency-Key answered like the original.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class SubmissionConcurrencyTests {
+
+    private static final int WRITERS = 6;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AppraisalService appraisalService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void retryWithSameKeyIsNotAppliedTwice() throws Exception {
+        User employee = user("john.doe");
+        Long cycleId = openCycle(employee);
+        String token = jwtUtils.generateToken(employee);
+
+        assertEquals(200, submitSelfAssessment(cycleId, token, "retry-key", ratingsJson(5)));
+        assertEquals(200, submitSelfAssessment(cycleId, token, "retry-key", ratingsJson(5)));
+
+        assertEquals(activeQuestions(), selfAssessmentRows(cycleId));
+    }
+
+    @Test
+    void keyReusedForDifferentRequestIsRejected() throws Exception {
+        User employee = user("sarah.wilson");
+        Long cycleId = openCycle(employee);
+        String token = jwtUtils.generateToken(employee);
+
+        assertEquals(200, submitSelfAssessment(cycleId, token, "reused-key", ratingsJson(5)));
+        assertEquals(422, submitSelfAssessment(cycleId, token, "reused-key", ratingsJson(6)));
+    }
+
+    @Test
+    void concurrentRetriesWithSameKeyAllSucceedOnce() throws Exception {
+        User employee = user("mike.chen");
+        Long cycleId = openCycle(employee);
+        String token = jwtUtils.generateToken(employee);
+
+        List<Integer> statuses = race(() -> submitSelfAssessment(cycleId, token, "racing-key", ratingsJson(4)));
+
+        assertThat(statuses).containsOnly(200);
+        assertEquals(activeQuestions(), selfAssessmentRows(cycleId));
+    }
+
+    @Test
+    void concurrentReviewSubmissionsStoreOneReview() throws Exception {
+        User pm = user("jane.smith");
+        Long cycleId = openCycle(user("emily.davis"));
+        appraisalService.assignPm(cycleId, pm.getId());
+        Long reviewId = jdbcTemplate.queryForObject("SELECT id FROM pm_reviews WHERE appraisal_cycle_id = ?", Long.class, cycleId);
+        String token = jwtUtils.generateToken(pm);
+
+        List<Integer> statuses = race(() -> status(post("/api/pm/reviews/" + reviewId + "/submit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(ratingsJson(7)), token));
+
+        // Losers either fail the version or unique check (409) or, arriving after the winner committed, the status check
+        assertThat(statuses).containsOnlyOnce(200);
+        assertEquals(activeQuestions(), jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pm_ratings WHERE pm_review_id = ?", Long.class, reviewId));
+    }
+
+    @Test
+    void bulkAssignmentRetryGetsOriginalResult() throws Exception {
+        User pm = user("jane.smith");
+        Long cycleId = openCycle(user("alex.kumar"));
+        String token = jwtUtils.generateToken(user("lisa.johnson"));
+        MockHttpServletRequestBuilder request = post("/api/appraisals/assign-pm/bulk")
+                .header("Idempotency-Key", "bulk-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"assignments": [{"cycleId": %d, "pmId": %d}]}
+                        """.formatted(cycleId, pm.getId()));
+
+        String original = body(request, token);
+        String retried = body(request, token);
+
+        // Re-running the batch would report the cycle as no longer OPEN
+        assertEquals(original, retried);
+        assertThat(original).contains("\"assigned\":1");
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pm_reviews WHERE appraisal_cycle_id = ?", Long.class, cycleId));
+    }
+
+    private List<Integer> race(Callable<Integer> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return request.call();
+                }));
+            }
+            start.countDown();
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> result : results) {
+                statuses.add(result.get());
+            }
+            return statuses;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int submitSelfAssessment(Long cycleId, String token, String idempotencyKey, String ratings) throws Exception {
+        return status(post("/api/employee/self-assessment/" + cycleId)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(ratings), token);
+    }
+
+    private String body(MockHttpServletRequestBuilder request, String token) throws Exception {
+        return mvc.perform(request.header("Authorization", "Bearer " + token)).andReturn().getResponse().getContentAsString();
+    }
+
+    private int status(MockHttpServletRequestBuilder request, String token) throws Exception {
+        return mvc.perform(request.header("Authorization", "Bearer " + token)).andReturn().getResponse().getStatus();
+    }
+
+    private Long openCycle(User employee) {
+        AppraisalCycle cycle = appraisalService.initiateAppraisal(employee.getId(), "2030", user("lisa.johnson"));
+        return cycle.getId();
+    }
+
+    private long selfAssessmentRows(Long cycleId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM self_assessments WHERE appraisal_cycle_id = ?", Long.class, cycleId);
+    }
+
+    private long activeQuestions() {
+        return questionRepository.findByActiveTrue().size();
+    }
+
+    private User user(String username) {
+        return userRepository.findByUsername(username).orElseThrow();
+    }
+
+    private String ratingsJson(int rating) {
+        return questionRepository.findByActiveTrue().stream()
+                .map(Question::getId)
+                .map(id -> "{\"questionId\":" + id + ",\"rating\":" + rating + ",\"comment\":\"Concurrent\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+}
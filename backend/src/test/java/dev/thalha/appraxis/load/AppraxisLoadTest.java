@@ -0,0 +1,317 @@
+package dev.thalha.appraxis.load;
+
+import dev.thalha.appraxis.dto.BulkInitiationRequestDto;
+import dev.thalha.appraxis.model.AppraisalCycle;
+import dev.thalha.appraxis.model.PmReview;
+import dev.thalha.appraxis.model.Question;
+import dev.thalha.appraxis.model.Role;
+import dev.thalha.appraxis.model.User;
+import dev.thalha.appraxis.repository.AppraisalRepository;
+import dev.thalha.appraxis.repository.PmReviewRepository;
+import dev.thalha.appraxis.repository.QuestionRepository;
+import dev.thalha.appraxis.repository.UserRepository;
+import dev.thalha.appraxis.security.JwtUtils;
+import dev.thalha.appraxis.service.AppraisalService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end HTTP load harness. Boots the application on a random port against the embedded
+ * database, seeds an organisation and drives a weighted mix of the hot endpoints from
+ * concurrent clients, then reports throughput, latency percentiles and JDBC statements per
+ * endpoint (printed and written to target/load-test-report.txt).
+ *
+ * Excluded from the default build; run with {@code mvn test -Pload-test}. Size the run with
+ * -Dload.employees, -Dload.pms, -Dload.clients and -Dload.durationSeconds.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("embedded")
+@Import(QueryCountingConfiguration.class)
+class AppraxisLoadTest {
+
+    private static final int EMPLOYEES = Integer.getInteger("load.employees", 500);
+    private static final int PMS = Integer.getInteger("load.pms", 25);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 16);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.durationSeconds", 20);
+    private static final String PASSWORD = "password";
+
+    private static final String LOGIN = "POST /api/auth/login";
+    private static final String ACTIVE_CYCLE = "GET /api/employee/active-cycle";
+    private static final String SELF_ASSESSMENT = "POST /api/employee/self-assessment/{id}";
+    private static final String PM_REVIEW = "POST /api/pm/reviews/{id}/submit";
+    private static final String BOSS_SUMMARY = "GET /api/boss/summary/{id}";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AppraisalRepository appraisalRepository;
+
+    @Autowired
+    private PmReviewRepository pmReviewRepository;
+
+    @Autowired
+    private AppraisalService appraisalService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final Map<String, List<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    private List<User> employees;
+    private Map<Long, String> tokens;
+    private String bossToken;
+    private List<Long> cycleIds;
+    private String selfAssessmentBody;
+    private String pmReviewBody;
+
+    // Work that can only be done once per cycle or review; drained by the clients
+    private final ConcurrentLinkedQueue<AppraisalCycle> unsubmittedCycles = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<PmReview> pendingReviews = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void mixedWorkload() throws Exception {
+        seed();
+        QueryCountingConfiguration.queryCounts().clear();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+        long started = System.nanoTime();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                running.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        runOne();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        String report = report(elapsedSeconds);
+        System.out.println(report);
+        Files.writeString(Path.of("target", "load-test-report.txt"), report);
+
+        // Failures are reported, not asserted: the harness measures, it does not gate the build
+        assertTrue(latencies.values().stream().mapToInt(List::size).sum() > 0, "no requests completed");
+    }
+
+    private void runOne() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        if (roll < 5) {
+            User employee = employees.get(random.nextInt(employees.size()));
+            String body = "{\"username\":\"" + employee.getUsername() + "\",\"password\":\"" + PASSWORD + "\"}";
+            send(LOGIN, HttpRequest.newBuilder(uri("/api/auth/login"))
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            return;
+        }
+        if (roll < 20) {
+            AppraisalCycle cycle = unsubmittedCycles.poll();
+            if (cycle != null) {
+                send(SELF_ASSESSMENT, authorized(uri("/api/employee/self-assessment/" + cycle.getId()), tokens.get(cycle.getEmployee().getId()))
+                        .POST(HttpRequest.BodyPublishers.ofString(selfAssessmentBody)));
+                return;
+            }
+        } else if (roll < 30) {
+            PmReview review = pendingReviews.poll();
+            if (review != null) {
+                send(PM_REVIEW, authorized(uri("/api/pm/reviews/" + review.getId() + "/submit"), tokens.get(review.getReviewer().getId()))
+                        .POST(HttpRequest.BodyPublishers.ofString(pmReviewBody)));
+                return;
+            }
+        } else if (roll < 45) {
+            Long cycleId = cycleIds.get(random.nextInt(cycleIds.size()));
+            send(BOSS_SUMMARY, authorized(uri("/api/boss/summary/" + cycleId), bossToken).GET());
+            return;
+        }
+        // Also the fallback once the one-shot submissions have been used up
+        User employee = employees.get(random.nextInt(employees.size()));
+        send(ACTIVE_CYCLE, authorized(uri("/api/employee/active-cycle"), tokens.get(employee.getId())).GET());
+    }
+
+    private void send(String endpoint, HttpRequest.Builder request) throws IOException, InterruptedException {
+        request.header("Content-Type", "application/json").timeout(Duration.ofSeconds(30));
+        long start = System.nanoTime();
+        HttpResponse<Void> response = http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        long elapsed = System.nanoTime() - start;
+
+        latencies.computeIfAbsent(endpoint, k -> Collections.synchronizedList(new ArrayList<>())).add(elapsed);
+        if (response.statusCode() >= 400) {
+            failures.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+        }
+    }
+
+    private HttpRequest.Builder authorized(URI uri, String token) {
+        return HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void seed() {
+        // Hashing once keeps seeding fast; logins still pay the full BCrypt cost
+        String hash = passwordEncoder.encode(PASSWORD);
+
+        List<User> pms = new ArrayList<>();
+        for (int i = 0; i < PMS; i++) {
+            pms.add(User.builder()
+                    .username("load.pm" + i)
+                    .password(hash)
+                    .name("Load PM " + i)
+                    .email("load.pm" + i + "@company.com")
+                    .roles(Set.of(Role.PROJECT_MANAGER))
+                    .designation("Project Manager")
+                    .build());
+        }
+        pms = userRepository.saveAll(pms);
+
+        List<User> staff = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            staff.add(User.builder()
+                    .username("load.emp" + i)
+                    .password(hash)
+                    .name("Load Employee " + i)
+                    .email("load.emp" + i + "@company.com")
+                    .roles(Set.of(Role.EMPLOYEE))
+                    .designation(i % 3 == 0 ? "Senior Developer" : "Developer")
+                    .build());
+        }
+        employees = userRepository.saveAll(staff);
+
+        String year = String.valueOf(LocalDate.now().getYear());
+        User hr = userRepository.findByUsername("lisa.johnson").orElseThrow();
+        appraisalService.initiateAppraisals(
+                new BulkInitiationRequestDto(year, employees.stream().map(User::getId).toList(), null), hr);
+
+        Set<Long> employeeIds = employees.stream().map(User::getId).collect(Collectors.toSet());
+        List<AppraisalCycle> cycles = appraisalRepository.findAll().stream()
+                .filter(cycle -> employeeIds.contains(cycle.getEmployee().getId()))
+                .toList();
+        for (int i = 0; i < cycles.size(); i++) {
+            appraisalService.assignPm(cycles.get(i).getId(), pms.get(i % pms.size()).getId());
+        }
+        cycleIds = cycles.stream().map(AppraisalCycle::getId).toList();
+        unsubmittedCycles.addAll(cycles);
+        pendingReviews.addAll(pmReviewRepository.findAll().stream()
+                .filter(review -> employeeIds.contains(review.getAppraisalCycle().getEmployee().getId()))
+                .toList());
+
+        tokens = new HashMap<>();
+        for (User user : employees) {
+            tokens.put(user.getId(), jwtUtils.generateToken(user));
+        }
+        for (User user : pms) {
+            tokens.put(user.getId(), jwtUtils.generateToken(user));
+        }
+        bossToken = jwtUtils.generateToken(userRepository.findByUsername("robert.taylor").orElseThrow());
+
+        List<Long> questionIds = questionRepository.findByActiveTrue().stream().map(Question::getId).toList();
+        selfAssessmentBody = ratingsBody(questionIds, "Self assessment");
+        pmReviewBody = ratingsBody(questionIds, "PM review");
+    }
+
+    private static String ratingsBody(List<Long> questionIds, String comment) {
+        return questionIds.stream()
+                .map(id -> "{\"questionId\":" + id + ",\"rating\":" + (1 + id % 10) + ",\"comment\":\"" + comment + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private String report(double elapsedSeconds) {
+        Map<String, LongAdder> queries = QueryCountingConfiguration.queryCounts();
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%nLoad run: %d employees, %d PMs, %d clients, %.1fs%n",
+                EMPLOYEES, PMS, CLIENTS, elapsedSeconds));
+        out.append(String.format("%-42s %8s %8s %9s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "queries/r", "failures"));
+
+        long totalRequests = 0;
+        for (Map.Entry<String, List<Long>> entry : new TreeMap<>(latencies).entrySet()) {
+            List<Long> sorted;
+            synchronized (entry.getValue()) {
+                sorted = new ArrayList<>(entry.getValue());
+            }
+            Collections.sort(sorted);
+            int count = sorted.size();
+            totalRequests += count;
+            LongAdder queryCount = queries.get(entry.getKey());
+            LongAdder failed = failures.get(entry.getKey());
+            out.append(String.format("%-42s %8d %8.1f %9.2f %9.2f %9.2f %9.2f %8d%n",
+                    entry.getKey(),
+                    count,
+                    count / elapsedSeconds,
+                    percentile(sorted, 50),
+                    percentile(sorted, 95),
+                    percentile(sorted, 99),
+                    queryCount == null ? 0.0 : (double) queryCount.sum() / count,
+                    failed == null ? 0 : failed.sum()));
+        }
+        out.append(String.format("%-42s %8d %8.1f%n", "total", totalRequests, totalRequests / elapsedSeconds));
+        return out.toString();
+    }
+
+    private static double percentile(List<Long> sortedNanos, int percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(index, 0)) / 1e6;
+    }
+}
@@ -0,0 +1,49 @@
+package dev.thalha.appraxis.load;
+
+import dev.thalha.appraxis.support.StatementCountingConfiguration;
+import dev.thalha.appraxis.support.StatementScope;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts JDBC statements per endpoint. A filter opens a {@link StatementScope} for each request
+ * that adds to the count of its normalized "METHOD /path/{id}" key, so queries fanned out to
+ * worker threads are attributed to the request as well.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+@Import(StatementCountingConfiguration.class)
+public class QueryCountingConfiguration {
+
+    private static final Map<String, LongAdder> QUERIES = new ConcurrentHashMap<>();
+
+    public static Map<String, LongAdder> queryCounts() {
+        return QUERIES;
+    }
+
+    public static String endpointKey(String method, String path) {
+        return method + " " + path.replaceAll("/\\d+(?=/|$)", "/{id}");
+    }
+
+    @Bean
+    FilterRegistrationBean<Filter> endpointTaggingFilter() {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+            HttpServletRequest http = (HttpServletRequest) request;
+            LongAdder queries = QUERIES.computeIfAbsent(endpointKey(http.getMethod(), http.getRequestURI()),
+                    k -> new LongAdder());
+            try (StatementScope ignored = StatementScope.open(queries::add)) {
+                chain.doFilter(request, response);
+            }
+        });
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,38 @@
+package dev.thalha.appraxis.support;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the JDBC statements an action executes, for asserting statement budgets in
+ * integration tests. Requires {@link StatementCountingConfiguration} in the test context.
+ *
+ * Statements are counted as {@link StatementScope} reports them, so queries fanned out to
+ * worker threads count towards the action that issued them and a JDBC batch counts once.
+ */
+public final class StatementCounter {
+
+    private StatementCounter() {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public static int count(Action action) throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        try (StatementScope ignored = StatementScope.open(counter::addAndGet)) {
+            action.run();
+        }
+        return counter.get();
+    }
+
+    public static int assertAtMost(int budget, String description, Action action) throws Exception {
+        int statements = count(action);
+        assertTrue(statements <= budget,
+                description + " executed " + statements + " statements, budget is " + budget);
+        return statements;
+    }
+}
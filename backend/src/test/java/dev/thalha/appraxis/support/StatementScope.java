@@ -0,0 +1,66 @@
+package dev.thalha.appraxis.support;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Where the current thread's JDBC statements are reported. {@link StatementCountingConfiguration}
+ * reports every statement to the listener of the thread that issued it; {@link StatementCounter}
+ * and the load harness's per-endpoint counts open a scope for whatever they measure.
+ *
+ * The listener reaches threads started while the scope is open and tasks handed to the
+ * application's thread pools, so queries fanned out to worker threads count towards the thread
+ * that submitted them. A JDBC batch is reported as one statement.
+ */
+public final class StatementScope implements AutoCloseable {
+
+    private static final InheritableThreadLocal<IntConsumer> CURRENT = new InheritableThreadLocal<>();
+
+    private final IntConsumer previous;
+
+    private StatementScope(IntConsumer previous) {
+        this.previous = previous;
+    }
+
+    public static StatementScope open(IntConsumer listener) {
+        StatementScope scope = new StatementScope(CURRENT.get());
+        CURRENT.set(listener);
+        return scope;
+    }
+
+    @Override
+    public void close() {
+        restore(previous);
+    }
+
+    /**
+     * Runs the task under the listener of the thread that submitted it. Pooled threads outlive
+     * the scope that created them, so they cannot rely on inheriting it.
+     */
+    static Runnable propagate(Runnable task) {
+        IntConsumer listener = CURRENT.get();
+        return () -> {
+            IntConsumer previous = CURRENT.get();
+            CURRENT.set(listener);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    static void record(int statements) {
+        IntConsumer listener = CURRENT.get();
+        if (listener != null) {
+            listener.accept(statements);
+        }
+    }
+
+    private static void restore(IntConsumer listener) {
+        if (listener != null) {
+            CURRENT.set(listener);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
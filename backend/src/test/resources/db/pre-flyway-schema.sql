@@ -0,0 +1,132 @@
+-- The schema Hibernate (ddl-auto=update, MySQLDialect) created from the entities as they were
+-- before Flyway, generated from those entities. Existing databases look like this: no migration
+-- history, Hibernate's constraint names, and none of the later columns and tables.
+
+create table appraisal_cycles (
+    self_assessment_submitted bit not null,
+    start_date date not null,
+    employee_id bigint not null,
+    hr_initiator_id bigint not null,
+    id bigint not null auto_increment,
+    boss_comment TEXT,
+    year varchar(255) not null,
+    status enum ('CLOSED','OPEN','PENDING_BOSS_REVIEW','PENDING_PM_REVIEW') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table clarifications (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    pm_rating_id bigint not null,
+    employee_reply TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table pm_ratings (
+    rating integer not null,
+    id bigint not null auto_increment,
+    pm_review_id bigint not null,
+    question_id bigint not null,
+    comment TEXT,
+    primary key (id)
+) engine=InnoDB;
+
+create table pm_reviews (
+    appraisal_cycle_id bigint not null,
+    feedback_date datetime(6),
+    id bigint not null auto_increment,
+    reviewer_id bigint not null,
+    status enum ('PENDING','SUBMITTED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table questions (
+    active bit not null,
+    id bigint not null auto_increment,
+    category varchar(255) not null,
+    text varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table self_assessments (
+    rating integer not null,
+    appraisal_cycle_id bigint not null,
+    id bigint not null auto_increment,
+    question_id bigint not null,
+    comment TEXT,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_roles (
+    user_id bigint not null,
+    role enum ('BOSS','EMPLOYEE','HR','PROJECT_MANAGER')
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    designation varchar(255),
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table clarifications 
+   add constraint UKan09639ju73xi9tdfjkfum8s7 unique (pm_rating_id);
+
+alter table users 
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table users 
+   add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table appraisal_cycles 
+   add constraint FKc9nfp7uk6n1hs1kk325hhcbmo 
+   foreign key (employee_id) 
+   references users (id);
+
+alter table appraisal_cycles 
+   add constraint FKfcndwbrmxqn3cdja3wk5cy7yr 
+   foreign key (hr_initiator_id) 
+   references users (id);
+
+alter table clarifications 
+   add constraint FKfp0jbixenrau0njk0ovoclokm 
+   foreign key (pm_rating_id) 
+   references pm_ratings (id);
+
+alter table pm_ratings 
+   add constraint FK7hk5tqew68uw39cm6mcimnyyc 
+   foreign key (pm_review_id) 
+   references pm_reviews (id);
+
+alter table pm_ratings 
+   add constraint FKo7u4il264ww3ulinnjlom7c09 
+   foreign key (question_id) 
+   references questions (id);
+
+alter table pm_reviews 
+   add constraint FKpktdwsvc39i2ppi3cqaju8tx6 
+   foreign key (appraisal_cycle_id) 
+   references appraisal_cycles (id);
+
+alter table pm_reviews 
+   add constraint FK5gwtmskyo1hcvdushgljhs860 
+   foreign key (reviewer_id) 
+   references users (id);
+
+alter table self_assessments 
+   add constraint FKmcm68ycla22a4xm07is13evx9 
+   foreign key (appraisal_cycle_id) 
+   references appraisal_cycles (id);
+
+alter table self_assessments 
+   add constraint FKokt9cqtnm9790skfmgbwvlupa 
+   foreign key (question_id) 
+   references questions (id);
+
+alter table user_roles 
+   add constraint FKhfh9dx7w3ubf1co1vdev94g3f 
+   foreign key (user_id) 
+   references users (id);
@@ -0,0 +1,80 @@
+import { useEffect, useRef } from 'react';
+import { api } from '@/lib/axios';
+
+export interface DashboardEvent {
+  type: string;
+  cycleId: number;
+}
+
+const RECONNECT_DELAY_MS = 5000;
+
+/**
+ * Subscribes to a server-sent event stream such as `/pm/events` and calls `onEvent` for
+ * every pushed change. The stream is read with fetch because EventSource cannot send the
+ * Authorization header. `onReconnect` runs whenever the stream reopens after a drop, since
+ * events sent while disconnected are not replayed.
+ */
+export function useDashboardEvents(
+  path: string,
+  onEvent: (event: DashboardEvent) => void,
+  onReconnect: () => void = () => {},
+) {
+  const handlers = useRef({ onEvent, onReconnect });
+  handlers.current = { onEvent, onReconnect };
+
+  useEffect(() => {
+    const controller = new AbortController();
+    let connectedBefore = false;
+
+    const connect = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          const token = localStorage.getItem('token');
+          const response = await fetch(`${api.defaults.baseURL}${path}`, {
+            headers: token ? { Authorization: `Bearer ${token}`, Accept: 'text/event-stream' } : {},
+            signal: controller.signal,
+          });
+          if (!response.ok || !response.body) {
+            throw new Error(`Event stream ${path} failed with ${response.status}`);
+          }
+          if (connectedBefore) {
+            handlers.current.onReconnect();
+          }
+          connectedBefore = true;
+          await readEvents(response.body, (event) => handlers.current.onEvent(event));
+        } catch (error) {
+          if (controller.signal.aborted) return;
+          console.error('Dashboard event stream dropped', error);
+        }
+        await new Promise((resolve) => setTimeout(resolve, RECONNECT_DELAY_MS));
+      }
+    };
+
+    connect();
+    return () => controller.abort();
+  }, [path]);
+}
+
+async function readEvents(body: ReadableStream<Uint8Array>, onEvent: (event: DashboardEvent) => void) {
+  const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffered = '';
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+    buffered += value;
+    // Events are separated by a blank line; comment lines (keep-alives) start with ':'
+    let boundary;
+    while ((boundary = buffered.indexOf('\n\n')) >= 0) {
+      const data = buffered
+        .slice(0, boundary)
+        .split('\n')
+        .filter((line) => line.startsWith('data:'))
+        .map((line) => line.slice(5))
+        .join('\n');
+      buffered = buffered.slice(boundary + 2);
+      if (data) {
+        onEvent(JSON.parse(data));
+      }
+    }
+  }
+}
@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react';
 import { api } from '@/lib/axios';
+import { useDashboardEvents } from '@/hooks/use-dashboard-events';
 import { Card, CardContent, CardHeader, CardTitle, CardDescription } from '@/components/ui/card';
 import { Button } from '@/components/ui/button';
 import { Table, TableBody, TableCell, TableHead, TableHeader, TableRow } from '@/components/ui/table';
@@ -7,45 +8,48 @@ import { Badge } from '@/components/ui/badge';
 import { Avatar, AvatarFallback } from "@/components/ui/avatar";
 import { useNavigate } from 'react-router-dom';
 
-interface User {
-  id: number;
-  name: string;
+interface PendingReview {
+  cycleId: number;
+  employeeName: string;
   designation: string;
+  year: string;
+  pendingSince: string | null;
+  daysInStatus: number | null;
 }
 
-interface AppraisalCycle {
-  id: number;
-  employee: User;
-  startDate: string;
-  status: string;
-  year: string;
+interface PendingPage {
+  items: PendingReview[];
+  nextCursor: number | null;
+  totalCount: number;
 }
 
 export default function BossDashboard() {
   const navigate = useNavigate();
-  const [reviews, setReviews] = useState<AppraisalCycle[]>([]);
+  const [reviews, setReviews] = useState<PendingReview[]>([]);
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
+  const [totalCount, setTotalCount] = useState(0);
 
   useEffect(() => {
     fetchPendingReviews();
   }, []);
 
-  const fetchPendingReviews = async () => {
+  useDashboardEvents('/boss/events', () => fetchPendingReviews(), () => fetchPendingReviews());
+
+  const fetchPendingReviews = async (cursor?: number) => {
     try {
-      const response = await api.get('/boss/pending');
-      setReviews(response.data);
+      const response = await api.get<PendingPage>('/boss/pending', { params: { cursor } });
+      setReviews(prev => cursor ? [...prev, ...response.data.items] : response.data.items);
+      setNextCursor(response.data.nextCursor);
+      setTotalCount(response.data.totalCount);
     } catch (error) {
       console.error("Failed to fetch pending reviews", error);
     }
   };
 
-  const getStatusColor = (status: string) => {
-    switch (status) {
-      case 'OPEN': return 'bg-green-500';
-      case 'PENDING_PM_REVIEW': return 'bg-yellow-500';
-      case 'PENDING_BOSS_REVIEW': return 'bg-purple-500';
-      case 'CLOSED': return 'bg-gray-500';
-      default: return 'bg-blue-500';
-    }
+  const formatWaiting = (days: number | null) => {
+    if (days === null) return '-';
+    if (days === 0) return 'Today';
+    return days === 1 ? '1 day' : `${days} days`;
   };
 
   return (
@@ -58,7 +62,7 @@ export default function BossDashboard() {
         <CardHeader>
           <CardTitle>Pending Appraisals</CardTitle>
           <CardDescription>
-            Review and finalize employee performance cycles.
+            Review and finalize employee performance cycles ({totalCount} pending).
           </CardDescription>
         </CardHeader>
         <CardContent>
@@ -67,32 +71,34 @@ export default function BossDashboard() {
               <TableRow>
                 <TableHead>Employee</TableHead>
                 <TableHead>Designation</TableHead>
-                <TableHead>Status</TableHead>
+                <TableHead>Year</TableHead>
+                <TableHead>Waiting</TableHead>
                 <TableHead className="text-right">Action</TableHead>
               </TableRow>
             </TableHeader>
             <TableBody>
               {reviews.length === 0 ? (
                   <TableRow>
-                      <TableCell colSpan={4} className="text-center text-muted-foreground">No pending reviews found.</TableCell>
+                      <TableCell colSpan={5} className="text-center text-muted-foreground">No pending reviews found.</TableCell>
                   </TableRow>
               ) : (
                   reviews.map((review) => (
-                  <TableRow key={review.id}>
+                  <TableRow key={review.cycleId}>
                       <TableCell className="font-medium flex items-center gap-2">
                       <Avatar className="h-8 w-8">
-                          <AvatarFallback>{review.employee.name.charAt(0)}</AvatarFallback>
+                          <AvatarFallback>{review.employeeName.charAt(0)}</AvatarFallback>
                       </Avatar>
-                      {review.employee.name}
+                      {review.employeeName}
                       </TableCell>
-                      <TableCell>{review.employee.designation}</TableCell>
+                      <TableCell>{review.designation}</TableCell>
+                      <TableCell>{review.year}</TableCell>
                       <TableCell>
-                      <Badge className={`${getStatusColor(review.status)} text-white`}>
-                          {review.status.replace(/_/g, ' ')}
+                      <Badge className="bg-purple-500 text-white">
+                          {formatWaiting(review.daysInStatus)}
                       </Badge>
                       </TableCell>
                       <TableCell className="text-right">
-                        <Button size="sm" onClick={() => navigate(`/boss/review/${review.id}`)}>
+                        <Button size="sm" onClick={() => navigate(`/boss/review/${review.cycleId}`)}>
                             Review & Close
                         </Button>
                       </TableCell>
@@ -101,6 +107,13 @@ export default function BossDashboard() {
               )}
             </TableBody>
           </Table>
+          {nextCursor !== null && (
+            <div className="flex justify-center pt-4">
+              <Button variant="outline" size="sm" onClick={() => fetchPendingReviews(nextCursor)}>
+                Load more
+              </Button>
+            </div>
+          )}
         </CardContent>
       </Card>
     </div>
@@ -8,24 +8,24 @@ import { Badge } from '@/components/ui/badge';
 import { Avatar, AvatarFallback } from '@/components/ui/avatar';
 import { Users, ClipboardList, Clock, CheckCircle } from 'lucide-react';
 
-interface User {
+interface AppraisalSummary {
   id: number;
-  name: string;
-  username: string;
-}
-
-interface AppraisalCycle {
-  id: number;
-  employee: User;
+  employeeName: string;
   startDate: string;
   status: string;
   year: string;
 }
 
+interface StatusCount {
+  status: string;
+  count: number;
+}
+
 export default function Dashboard() {
   const { user, hasRole } = useAuth();
   const navigate = useNavigate();
-  const [appraisals, setAppraisals] = useState<AppraisalCycle[]>([]);
+  const [pendingAppraisals, setPendingAppraisals] = useState<AppraisalSummary[]>([]);
+  const [statusCounts, setStatusCounts] = useState<StatusCount[]>([]);
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
@@ -46,8 +46,15 @@ export default function Dashboard() {
 
   const fetchAppraisals = async () => {
     try {
-      const response = await api.get('/appraisals');
-      setAppraisals(response.data);
+      const [countsRes, pendingRes] = await Promise.all([
+        api.get<StatusCount[]>('/appraisals/status-counts'),
+        api.get('/appraisals', {
+          params: { status: ['OPEN', 'PENDING_PM_REVIEW', 'PENDING_BOSS_REVIEW'], size: 50 },
+          paramsSerializer: { indexes: null }
+        })
+      ]);
+      setStatusCounts(countsRes.data);
+      setPendingAppraisals(pendingRes.data.items);
     } catch (error) {
       console.error("Failed to fetch appraisals", error);
     } finally {
@@ -65,10 +72,12 @@ export default function Dashboard() {
     }
   };
 
-  const pendingAppraisals = appraisals.filter(a => a.status !== 'CLOSED');
-  const openCount = appraisals.filter(a => a.status === 'OPEN').length;
-  const pendingReviewCount = appraisals.filter(a => a.status === 'PENDING_PM_REVIEW' || a.status === 'PENDING_BOSS_REVIEW').length;
-  const closedCount = appraisals.filter(a => a.status === 'CLOSED').length;
+  const countOf = (...statuses: string[]) =>
+    statusCounts.filter(c => statuses.includes(c.status)).reduce((sum, c) => sum + c.count, 0);
+  const totalCount = statusCounts.reduce((sum, c) => sum + c.count, 0);
+  const openCount = countOf('OPEN');
+  const pendingReviewCount = countOf('PENDING_PM_REVIEW', 'PENDING_BOSS_REVIEW');
+  const closedCount = countOf('CLOSED');
 
   return (
     <div className="space-y-6">
@@ -87,7 +96,7 @@ export default function Dashboard() {
                 <ClipboardList className="h-4 w-4 text-muted-foreground" />
               </CardHeader>
               <CardContent>
-                <div className="text-2xl font-bold">{appraisals.length}</div>
+                <div className="text-2xl font-bold">{totalCount}</div>
                 <p className="text-xs text-muted-foreground">All time</p>
               </CardContent>
             </Card>
@@ -150,9 +159,9 @@ export default function Dashboard() {
                         <TableCell className="font-medium">
                           <div className="flex items-center gap-2">
                             <Avatar className="h-8 w-8">
-                              <AvatarFallback>{appraisal.employee.name.charAt(0)}</AvatarFallback>
+                              <AvatarFallback>{appraisal.employeeName.charAt(0)}</AvatarFallback>
                             </Avatar>
-                            {appraisal.employee.name}
+                            {appraisal.employeeName}
                           </div>
                         </TableCell>
                         <TableCell>{appraisal.startDate}</TableCell>
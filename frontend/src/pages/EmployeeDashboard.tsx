@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react';
 import { api } from '@/lib/axios';
+import { useDashboardEvents } from '@/hooks/use-dashboard-events';
 import { Card, CardContent, CardHeader, CardTitle, CardDescription } from '@/components/ui/card';
 import { Button } from '@/components/ui/button';
 import { Tabs, TabsContent, TabsList, TabsTrigger } from '@/components/ui/tabs';
@@ -67,6 +68,9 @@ export default function EmployeeDashboard() {
     fetchAllCycles();
   }, []);
 
+  // Refetching replaces the selected cycle, which reloads its report and feedback
+  useDashboardEvents('/employee/events', fetchAllCycles, fetchAllCycles);
+
   useEffect(() => {
     if (selectedCycle) {
       fetchReport();
@@ -77,14 +81,14 @@ export default function EmployeeDashboard() {
 
   const fetchAllCycles = async () => {
     try {
-      const response = await api.get('/employee/cycles');
-      const cycles = response.data;
+      const response = await api.get('/employee/cycles', { params: { size: 100 } });
+      const cycles: AppraisalCycleData[] = response.data.items;
       setAllCycles(cycles);
       // Auto-select the most recent cycle if available, or update the currently selected one
       if (cycles.length > 0) {
         if (selectedCycle) {
           // Update the selected cycle with fresh data
-          const updatedCycle = cycles.find((c: AppraisalCycleData) => c.id === selectedCycle.id);
+          const updatedCycle = cycles.find(c => c.id === selectedCycle.id);
           if (updatedCycle) {
             setSelectedCycle(updatedCycle);
           }
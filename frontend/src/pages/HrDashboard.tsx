@@ -17,18 +17,25 @@ interface User {
   username: string;
 }
 
-interface AppraisalCycle {
+interface AppraisalSummary {
   id: number;
-  employee: User;
+  employeeId: number;
+  employeeName: string;
   startDate: string;
   status: string;
   year: string;
 }
 
+interface AppraisalPage {
+  items: AppraisalSummary[];
+  nextCursor: number | null;
+}
+
 export default function HrDashboard() {
   const { toast } = useToast();
   const [employees, setEmployees] = useState<User[]>([]);
-  const [appraisals, setAppraisals] = useState<AppraisalCycle[]>([]);
+  const [appraisals, setAppraisals] = useState<AppraisalSummary[]>([]);
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
   const [pms, setPms] = useState<User[]>([]);
   
   const [selectedEmployeeId, setSelectedEmployeeId] = useState<string>('');
@@ -63,10 +70,11 @@ export default function HrDashboard() {
     }
   };
 
-  const fetchAppraisals = async () => {
+  const fetchAppraisals = async (cursor?: number) => {
     try {
-      const response = await api.get('/appraisals');
-      setAppraisals(response.data);
+      const response = await api.get<AppraisalPage>('/appraisals', { params: { cursor } });
+      setAppraisals(prev => cursor ? [...prev, ...response.data.items] : response.data.items);
+      setNextCursor(response.data.nextCursor);
     } catch (error) {
       console.error("Failed to fetch appraisals", error);
     }
@@ -225,9 +233,9 @@ export default function HrDashboard() {
                     <TableRow key={appraisal.id}>
                         <TableCell className="font-medium flex items-center gap-2">
                         <Avatar className="h-8 w-8">
-                            <AvatarFallback>{appraisal.employee.name.charAt(0)}</AvatarFallback>
+                            <AvatarFallback>{appraisal.employeeName.charAt(0)}</AvatarFallback>
                         </Avatar>
-                        {appraisal.employee.name}
+                        {appraisal.employeeName}
                         </TableCell>
                         <TableCell>{appraisal.startDate}</TableCell>
                         <TableCell>
@@ -245,6 +253,13 @@ export default function HrDashboard() {
                 )}
               </TableBody>
             </Table>
+            {nextCursor !== null && (
+              <div className="flex justify-center pt-4">
+                <Button variant="outline" size="sm" onClick={() => fetchAppraisals(nextCursor)}>
+                  Load more
+                </Button>
+              </div>
+            )}
           </CardContent>
         </Card>
       </div>
@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react';
 import { api } from '@/lib/axios';
+import { useDashboardEvents } from '@/hooks/use-dashboard-events';
 import { Card, CardContent, CardHeader, CardTitle, CardDescription } from '@/components/ui/card';
 import { Button } from '@/components/ui/button';
 import { Table, TableBody, TableCell, TableHead, TableHeader, TableRow } from '@/components/ui/table';
@@ -23,6 +24,16 @@ interface PmReview {
   feedbackDate: string | null;
 }
 
+interface SubmittedReview {
+  id: number;
+  cycleId: number;
+  employeeName: string;
+  year: string;
+  cycleStatus: string;
+  status: string;
+  feedbackDate: string | null;
+}
+
 interface ClarificationItem {
   pmRatingId: number;
   questionText: string;
@@ -34,8 +45,9 @@ interface ClarificationItem {
 
 export default function PmDashboard() {
   const [pendingReviews, setPendingReviews] = useState<PmReview[]>([]);
-  const [submittedReviews, setSubmittedReviews] = useState<PmReview[]>([]);
-  const [selectedReview, setSelectedReview] = useState<PmReview | null>(null);
+  const [submittedReviews, setSubmittedReviews] = useState<SubmittedReview[]>([]);
+  const [submittedCursor, setSubmittedCursor] = useState<number | null>(null);
+  const [selectedReview, setSelectedReview] = useState<SubmittedReview | null>(null);
   const [clarifications, setClarifications] = useState<ClarificationItem[]>([]);
   const [dialogOpen, setDialogOpen] = useState(false);
 
@@ -43,6 +55,8 @@ export default function PmDashboard() {
     fetchReviews();
   }, []);
 
+  useDashboardEvents('/pm/events', fetchReviews, fetchReviews);
+
   const fetchReviews = async () => {
     try {
       const [pendingRes, submittedRes] = await Promise.all([
@@ -50,13 +64,24 @@ export default function PmDashboard() {
         api.get('/pm/submitted-reviews')
       ]);
       setPendingReviews(pendingRes.data);
-      setSubmittedReviews(submittedRes.data);
+      setSubmittedReviews(submittedRes.data.items);
+      setSubmittedCursor(submittedRes.data.nextCursor);
     } catch (error) {
       console.error("Failed to fetch reviews", error);
     }
   };
 
-  const viewClarifications = async (review: PmReview) => {
+  const fetchMoreSubmitted = async () => {
+    try {
+      const response = await api.get('/pm/submitted-reviews', { params: { cursor: submittedCursor } });
+      setSubmittedReviews(prev => [...prev, ...response.data.items]);
+      setSubmittedCursor(response.data.nextCursor);
+    } catch (error) {
+      console.error("Failed to fetch reviews", error);
+    }
+  };
+
+  const viewClarifications = async (review: SubmittedReview) => {
     setSelectedReview(review);
     try {
       const response = await api.get(`/pm/reviews/${review.id}/clarifications`);
@@ -178,14 +203,14 @@ export default function PmDashboard() {
                       <TableRow key={review.id}>
                         <TableCell className="font-medium flex items-center gap-2">
                           <Avatar className="h-8 w-8">
-                            <AvatarFallback>{review.appraisalCycle.employee.name.charAt(0)}</AvatarFallback>
+                            <AvatarFallback>{review.employeeName.charAt(0)}</AvatarFallback>
                           </Avatar>
-                          {review.appraisalCycle.employee.name}
+                          {review.employeeName}
                         </TableCell>
-                        <TableCell>{review.appraisalCycle.year}</TableCell>
+                        <TableCell>{review.year}</TableCell>
                         <TableCell>
-                          <Badge variant={review.appraisalCycle.status === 'CLOSED' ? 'default' : 'secondary'}>
-                            {review.appraisalCycle.status.replace(/_/g, ' ')}
+                          <Badge variant={review.cycleStatus === 'CLOSED' ? 'default' : 'secondary'}>
+                            {review.cycleStatus.replace(/_/g, ' ')}
                           </Badge>
                         </TableCell>
                         <TableCell>
@@ -201,6 +226,13 @@ export default function PmDashboard() {
                   )}
                 </TableBody>
               </Table>
+              {submittedCursor !== null && (
+                <div className="flex justify-center pt-4">
+                  <Button variant="outline" size="sm" onClick={fetchMoreSubmitted}>
+                    Load more
+                  </Button>
+                </div>
+              )}
             </CardContent>
           </Card>
         </TabsContent>
@@ -210,7 +242,7 @@ export default function PmDashboard() {
         <DialogContent className="max-w-2xl max-h-[80vh] overflow-y-auto">
           <DialogHeader>
             <DialogTitle>
-              Review Details - {selectedReview?.appraisalCycle.employee.name} ({selectedReview?.appraisalCycle.year})
+              Review Details - {selectedReview?.employeeName} ({selectedReview?.year})
             </DialogTitle>
             <DialogDescription>
               Your ratings and employee clarifications for this appraisal.